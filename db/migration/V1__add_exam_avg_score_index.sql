@@ -0,0 +1,3 @@
+CREATE INDEX idx_student_pass_exam_avg_score ON student_pass (`exam`, `avg_score`);
+
+CREATE INDEX idx_student_fail_exam_avg_score ON student_fail (`exam`, `avg_score`);
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS id_sequence (
+    `sequence_name` VARCHAR(255) NOT NULL COMMENT '시퀀스 이름',
+    `next_val` BIGINT NOT NULL COMMENT '다음 할당 값',
+    PRIMARY KEY (`sequence_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- pooled 방식은 읽어온 값에서 allocationSize(1000) 만큼 아래부터 할당하므로, 기존 최대 id 와 겹치지 않도록 여유를 둔다
+INSERT INTO id_sequence (`sequence_name`, `next_val`)
+SELECT 'student_score', COALESCE(MAX(`student_score_id`), 0) + 1001 FROM student_score;
+
+INSERT INTO id_sequence (`sequence_name`, `next_val`)
+SELECT 'student_pass', COALESCE(MAX(`student_pass_id`), 0) + 1001 FROM student_pass;
+
+INSERT INTO id_sequence (`sequence_name`, `next_val`)
+SELECT 'student_fail', COALESCE(MAX(`student_fail_id`), 0) + 1001 FROM student_fail;
@@ -0,0 +1,3 @@
+CREATE INDEX idx_student_pass_exam_id ON student_pass (`exam`, `student_pass_id`);
+
+CREATE INDEX idx_student_fail_exam_id ON student_fail (`exam`, `student_fail_id`);
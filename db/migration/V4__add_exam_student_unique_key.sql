@@ -0,0 +1,40 @@
+-- 재제출로 쌓인 중복 행은 (exam, student_name) 별로 가장 마지막 행만 남긴다
+DELETE older FROM student_score older
+JOIN student_score newer
+  ON newer.`exam` = older.`exam`
+ AND newer.`student_name` = older.`student_name`
+ AND newer.`student_score_id` > older.`student_score_id`;
+
+DELETE older FROM student_pass older
+JOIN student_pass newer
+  ON newer.`exam` = older.`exam`
+ AND newer.`student_name` = older.`student_name`
+ AND newer.`student_pass_id` > older.`student_pass_id`;
+
+DELETE older FROM student_fail older
+JOIN student_fail newer
+  ON newer.`exam` = older.`exam`
+ AND newer.`student_name` = older.`student_name`
+ AND newer.`student_fail_id` > older.`student_fail_id`;
+
+-- 합격/불합격 양쪽에 남은 학생은 마지막 점수(세 과목 합 180 이상이면 합격) 기준으로 한쪽만 남긴다
+DELETE p FROM student_pass p
+JOIN student_score s
+  ON s.`exam` = p.`exam`
+ AND s.`student_name` = p.`student_name`
+WHERE s.`kor_score` + s.`english_score` + s.`math_score` < 180;
+
+DELETE f FROM student_fail f
+JOIN student_score s
+  ON s.`exam` = f.`exam`
+ AND s.`student_name` = f.`student_name`
+WHERE s.`kor_score` + s.`english_score` + s.`math_score` >= 180;
+
+ALTER TABLE student_score ADD UNIQUE KEY uk_student_score_exam_student_name (`exam`, `student_name`);
+
+ALTER TABLE student_pass ADD UNIQUE KEY uk_student_pass_exam_student_name (`exam`, `student_name`);
+
+ALTER TABLE student_fail ADD UNIQUE KEY uk_student_fail_exam_student_name (`exam`, `student_name`);
+
+-- 점수 저장이 AUTO_INCREMENT 를 쓰는 네이티브 upsert 로 바뀌어 테이블 시퀀스는 더 이상 쓰지 않는다
+DROP TABLE id_sequence;
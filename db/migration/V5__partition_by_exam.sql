@@ -0,0 +1,34 @@
+-- 파티션 키(exam)는 모든 유니크 키에 포함되어야 하므로 PK 를 (id, exam) 으로 바꾼다
+ALTER TABLE student_score DROP PRIMARY KEY, ADD PRIMARY KEY (`student_score_id`, `exam`);
+
+ALTER TABLE student_pass DROP PRIMARY KEY, ADD PRIMARY KEY (`student_pass_id`, `exam`);
+
+ALTER TABLE student_fail DROP PRIMARY KEY, ADD PRIMARY KEY (`student_fail_id`, `exam`);
+
+-- 세 테이블은 같은 파티션 목록을 갖는다. 파티션 이름은 'p' + MD5(exam) 이고, LIST 파티셔닝은 파티션이 하나 이상 있어야 해서
+-- 빈 문자열('') 파티션을 항상 둔다. 이후 시험의 파티션은 애플리케이션(ExamPartitionService)이 첫 저장 전에 추가한다
+SET SESSION group_concat_max_len = 16777216;
+
+SELECT GROUP_CONCAT(
+         CONCAT('PARTITION p', MD5(`exam`), ' VALUES IN (', QUOTE(`exam`), ')')
+         ORDER BY `exam` SEPARATOR ', ')
+  INTO @exam_partitions
+  FROM (SELECT '' AS `exam`
+        UNION SELECT `exam` FROM student_score
+        UNION SELECT `exam` FROM student_pass
+        UNION SELECT `exam` FROM student_fail) exams;
+
+SET @ddl = CONCAT('ALTER TABLE student_score PARTITION BY LIST COLUMNS (`exam`) (', @exam_partitions, ')');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = CONCAT('ALTER TABLE student_pass PARTITION BY LIST COLUMNS (`exam`) (', @exam_partitions, ')');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = CONCAT('ALTER TABLE student_fail PARTITION BY LIST COLUMNS (`exam`) (', @exam_partitions, ')');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
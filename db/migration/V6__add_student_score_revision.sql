@@ -0,0 +1,3 @@
+-- upsert 가 기존 행을 덮어쓸 때 항상 값이 바뀌도록 재제출마다 1씩 올린다.
+-- 같은 점수로 다시 제출해도 affected rows 가 2 로 잡혀야 신규(1)와 재제출(2)을 구분할 수 있다
+ALTER TABLE student_score ADD COLUMN `revision` INT NOT NULL DEFAULT 0;
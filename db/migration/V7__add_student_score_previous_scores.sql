@@ -0,0 +1,6 @@
+-- 재제출 upsert 가 덮어쓰기 직전의 점수를 같은 행에 남긴다. 통계는 이전 점수를 빼고 새 점수를 더하는 증분으로 갱신한다.
+-- 신규 행은 NULL 로 남으므로 upsert 직후 값이 있는 행이 이번에 덮어쓴 재제출이다
+ALTER TABLE student_score
+  ADD COLUMN `prev_kor_score` INT NULL,
+  ADD COLUMN `prev_english_score` INT NULL,
+  ADD COLUMN `prev_math_score` INT NULL;
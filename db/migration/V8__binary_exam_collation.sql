@@ -0,0 +1,39 @@
+-- 파티션 키(exam)를 바이너리 콜레이션으로 바꾼다. 기본 utf8mb4_0900_ai_ci 는 대소문자/악센트를 구분하지 않아
+-- 'Exam' 과 'exam' 이 같은 파티션 값으로 잡히지만, 파티션 이름(MD5), 등록 캐시, Redis 키는 모두 바이트 단위로 구분한다.
+-- 컬럼만 바꾸면 ai_ci 로 한 파티션에 섞여 있던 다른 표기의 행이 갈 파티션이 없으므로 바이트 단위로 구분한 시험 목록으로 다시 나눈다.
+-- 등록만 하고 아직 행이 없는 시험도 파티션을 잃지 않도록 기존 파티션 값('...')을 함께 모은다. 따옴표나 역슬래시가 든 값은
+-- 이스케이프를 되돌릴 수 없어 빼고, 그런 시험은 다시 등록한다
+SET SESSION group_concat_max_len = 16777216;
+
+SELECT GROUP_CONCAT(
+         CONCAT('PARTITION p', MD5(`exam`), ' VALUES IN (', QUOTE(`exam`), ')')
+         ORDER BY `exam` SEPARATOR ', ')
+  INTO @exam_partitions
+  FROM (SELECT '' COLLATE utf8mb4_bin AS `exam`
+        UNION SELECT `exam` COLLATE utf8mb4_bin FROM student_score
+        UNION SELECT `exam` COLLATE utf8mb4_bin FROM student_pass
+        UNION SELECT `exam` COLLATE utf8mb4_bin FROM student_fail
+        UNION SELECT CONVERT(SUBSTRING(PARTITION_DESCRIPTION, 2, CHAR_LENGTH(PARTITION_DESCRIPTION) - 2) USING utf8mb4)
+                       COLLATE utf8mb4_bin
+                FROM information_schema.PARTITIONS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'student_score'
+                 AND PARTITION_DESCRIPTION LIKE '''%'''
+                 AND PARTITION_DESCRIPTION NOT REGEXP '.[''\\\\].') exams;
+
+SET @ddl = CONCAT('ALTER TABLE student_score MODIFY `exam` VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT ''시험''',
+                  ' PARTITION BY LIST COLUMNS (`exam`) (', @exam_partitions, ')');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = CONCAT('ALTER TABLE student_pass MODIFY `exam` VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT ''시험''',
+                  ' PARTITION BY LIST COLUMNS (`exam`) (', @exam_partitions, ')');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = CONCAT('ALTER TABLE student_fail MODIFY `exam` VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL COMMENT ''시험''',
+                  ' PARTITION BY LIST COLUMNS (`exam`) (', @exam_partitions, ')');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,71 @@
+package com.jyujyu.dayonetest;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchScoreCalculatorBenchmark {
+
+  @Param({"10000", "100000", "1000000"})
+  private int size;
+
+  private int[] korScores;
+  private int[] englishScores;
+  private int[] mathScores;
+  private double[] averages;
+  private long[] passBitmap;
+
+  @Setup
+  public void setup() {
+    var random = new Random(0);
+    korScores = new int[size];
+    englishScores = new int[size];
+    mathScores = new int[size];
+    for (int i = 0; i < size; i++) {
+      korScores[i] = random.nextInt(101);
+      englishScores[i] = random.nextInt(101);
+      mathScores[i] = random.nextInt(101);
+    }
+    averages = new double[size];
+    passBitmap = new long[(size + 63) >>> 6];
+  }
+
+  @Benchmark
+  public void myCalculator(Blackhole blackhole) {
+    for (int i = 0; i < size; i++) {
+      Double avgScore =
+          new MyCalculator(0.0)
+              .add((double) korScores[i])
+              .add((double) englishScores[i])
+              .add((double) mathScores[i])
+              .divide(3.0)
+              .getResult();
+      blackhole.consume(avgScore >= 60);
+    }
+  }
+
+  @Benchmark
+  public long[] scalar() {
+    BatchScoreCalculator.scoreScalar(
+        korScores, englishScores, mathScores, 0, size, averages, passBitmap);
+    return passBitmap;
+  }
+
+  @Benchmark
+  public long[] vector() {
+    VectorBatchScoreCalculator.score(
+        korScores, englishScores, mathScores, size, averages, passBitmap);
+    return passBitmap;
+  }
+}
@@ -0,0 +1,60 @@
+package com.jyujyu.dayonetest;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScoreCalculatorBenchmark {
+
+  private static final int SIZE = 1024;
+
+  private final int[] korScores = new int[SIZE];
+  private final int[] englishScores = new int[SIZE];
+  private final int[] mathScores = new int[SIZE];
+
+  @Setup
+  public void setup() {
+    var random = new Random(0);
+    for (int i = 0; i < SIZE; i++) {
+      korScores[i] = random.nextInt(101);
+      englishScores[i] = random.nextInt(101);
+      mathScores[i] = random.nextInt(101);
+    }
+  }
+
+  @Benchmark
+  public void myCalculator(Blackhole blackhole) {
+    for (int i = 0; i < SIZE; i++) {
+      Integer korScore = korScores[i];
+      Integer englishScore = englishScores[i];
+      Integer mathScore = mathScores[i];
+
+      Double avgScore =
+          new MyCalculator(0.0)
+              .add(korScore.doubleValue())
+              .add(englishScore.doubleValue())
+              .add(mathScore.doubleValue())
+              .divide(3.0)
+              .getResult();
+      blackhole.consume(avgScore >= 60);
+    }
+  }
+
+  @Benchmark
+  public void scoreCalculator(Blackhole blackhole) {
+    for (int i = 0; i < SIZE; i++) {
+      double avgScore = ScoreCalculator.average(korScores[i], englishScores[i], mathScores[i]);
+      blackhole.consume(ScoreCalculator.isPass(avgScore));
+    }
+  }
+}
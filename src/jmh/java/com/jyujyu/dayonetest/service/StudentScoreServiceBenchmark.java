@@ -0,0 +1,230 @@
+package com.jyujyu.dayonetest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentPageResponse;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import com.jyujyu.dayonetest.model.StudentFail;
+import com.jyujyu.dayonetest.model.StudentPass;
+import com.jyujyu.dayonetest.model.StudentScore;
+import com.jyujyu.dayonetest.repository.StudentFailRepository;
+import com.jyujyu.dayonetest.repository.StudentPassRepository;
+import com.jyujyu.dayonetest.support.ScoreAggregate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * DB / Redis 호출은 아무것도 하지 않는 fake 로 바꾸고 서비스 내부 비용만 측정한다.
+ *
+ * <p>Mockito mock 은 호출마다 가로채기 비용이 측정 대상보다 커서 쓰지 않는다. 명단 크기(students)는 명단을 다루는 벤치마크에만 적용된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StudentScoreServiceBenchmark {
+
+  private static final String EXAM = "benchmark";
+
+  private StudentScoreService studentScoreService;
+  private int[] scores;
+  private int index;
+
+  @Setup
+  public void setup() {
+    studentScoreService =
+        newStudentScoreService(
+            fixedResults(StudentPassRepository.class, Map.of()),
+            fixedResults(StudentFailRepository.class, Map.of()));
+
+    var random = new Random(0);
+    scores = random.ints(3 * 1024, 0, 101).toArray();
+  }
+
+  @Benchmark
+  public int saveScore() {
+    int i = index;
+    index = (index + 3) % scores.length;
+    studentScoreService.saveScore(EXAM, "student", scores[i], scores[i + 1], scores[i + 2]);
+    return i;
+  }
+
+  @Benchmark
+  public List<ExamPassStudentResponse> getPassStudentsListCacheHit(Roster roster) {
+    return roster.studentScoreService.getPassStudentsList(EXAM);
+  }
+
+  @Benchmark
+  public ExamPassStudentPageResponse getPassStudentsPageMapping(Roster roster) {
+    return roster.examResultQueryService.getPassStudentsPage(EXAM, 0L, roster.students);
+  }
+
+  @State(Scope.Thread)
+  public static class Roster {
+
+    @Param({"100", "1000"})
+    int students;
+
+    StudentScoreService studentScoreService;
+    ExamResultQueryService examResultQueryService;
+
+    @Setup
+    public void setup() {
+      List<StudentPass> studentPasses =
+          IntStream.range(0, students)
+              .mapToObj(
+                  i ->
+                      StudentPass.builder()
+                          .id((long) i + 1)
+                          .exam(EXAM)
+                          .studentName("student" + i)
+                          .avgScore(60 + i % 40)
+                          .build())
+              .toList();
+      List<ExamPassStudentResponse> passResponses =
+          studentPasses.stream()
+              .map(pass -> new ExamPassStudentResponse(pass.getStudentName(), pass.getAvgScore()))
+              .toList();
+
+      var studentPassRepository =
+          fixedResults(
+              StudentPassRepository.class,
+              Map.of(
+                  "findByExamAndIdGreaterThanOrderByIdAsc", studentPasses,
+                  "findByExam", passResponses));
+      var studentFailRepository = fixedResults(StudentFailRepository.class, Map.of());
+
+      studentScoreService = newStudentScoreService(studentPassRepository, studentFailRepository);
+      examResultQueryService =
+          new ExamResultQueryService(studentPassRepository, studentFailRepository);
+
+      // 첫 호출에서 로컬 캐시를 채워 두고, 이후에는 캐시 적중 경로만 측정한다
+      studentScoreService.getPassStudentsList(EXAM);
+    }
+  }
+
+  private static StudentScoreService newStudentScoreService(
+      StudentPassRepository studentPassRepository, StudentFailRepository studentFailRepository) {
+    var redisService = new NoOpRedisService();
+    var nearCacheService =
+        new NearCacheService(
+            redisService, new SimpleMeterRegistry(), DataSize.ofMegabytes(64), Duration.ofHours(1));
+
+    return new StudentScoreService(
+        new NoOpExamPartitionService(),
+        new NoOpStudentScoreUpsertService(),
+        studentPassRepository,
+        studentFailRepository,
+        new ExamResultCacheService(
+            nearCacheService, new ObjectMapper().registerModule(new ParameterNamesModule())),
+        new NoOpExamStatsService(redisService),
+        new NoOpExamLeaderboardService(redisService));
+  }
+
+  // 메서드 이름별로 미리 만든 결과만 돌려주는 repository. 나머지 메서드는 호출되면 안 된다
+  @SuppressWarnings("unchecked")
+  private static <T> T fixedResults(Class<T> type, Map<String, Object> results) {
+    return (T)
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              Object result = results.get(method.getName());
+              if (result == null) {
+                throw new UnsupportedOperationException(method.getName());
+              }
+              return result;
+            });
+  }
+
+  private static class NoOpRedisService extends RedisService {
+
+    NoOpRedisService() {
+      super(null);
+    }
+
+    @Override
+    public String get(String key) {
+      return null;
+    }
+
+    @Override
+    public void set(String key, String value, Duration ttl) {}
+
+    @Override
+    public void delete(List<String> keys) {}
+
+    @Override
+    public void publish(String channel, String message) {}
+
+    // 캐시 조건부 저장과 세대 증가 스크립트는 항상 성공한 것으로 본다
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+      return (T) Long.valueOf(keys.size());
+    }
+  }
+
+  private static class NoOpExamPartitionService extends ExamPartitionService {
+
+    NoOpExamPartitionService() {
+      super(null, null, false);
+    }
+
+    @Override
+    public void requirePartition(String exam) {}
+  }
+
+  private static class NoOpStudentScoreUpsertService extends StudentScoreUpsertService {
+
+    NoOpStudentScoreUpsertService() {
+      super(null);
+    }
+
+    @Override
+    public List<StudentScore> upsertScores(List<StudentScore> studentScores) {
+      return List.of();
+    }
+
+    @Override
+    public void upsertPasses(List<StudentPass> studentPasses) {}
+
+    @Override
+    public void upsertFails(List<StudentFail> studentFails) {}
+  }
+
+  private static class NoOpExamStatsService extends ExamStatsService {
+
+    NoOpExamStatsService(RedisService redisService) {
+      super(redisService, null);
+    }
+
+    @Override
+    public void record(String exam, ScoreAggregate aggregate) {}
+  }
+
+  private static class NoOpExamLeaderboardService extends ExamLeaderboardService {
+
+    NoOpExamLeaderboardService(RedisService redisService) {
+      super(redisService, null);
+    }
+
+    @Override
+    public void record(String exam, Map<String, Double> avgScores) {}
+  }
+}
@@ -0,0 +1,313 @@
+package com.jyujyu.dayonetest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * ScoreApi 에 읽기/쓰기 혼합 부하를 주고 처리량과 지연시간 분포를 출력한다.
+ *
+ * <p>loadtest.target 이 없으면 IntegrationTest 와 같은 컨테이너(MySQL, Redis, Kafka, LocalStack)를 띄우고 애플리케이션을
+ * 임의 포트로 실행한다.
+ *
+ * <p>워커는 loadtest.rate(초당 전체 요청 수)를 나눠 가진 고정 간격으로 요청을 보내고, 지연시간은 실제 전송 시각이 아니라 예정된 전송 시각부터 잰다. 서버가
+ * 멈추면 밀린 요청의 대기 시간까지 기록되므로 closed-loop 처럼 p99/p999 가 낮게 보이지 않는다(coordinated omission). 동시성은 동시에 보낼
+ * 수 있는 요청 수의 상한이다. 실패한 요청의 지연시간은 따로 기록한다.
+ *
+ * <p>loadtest.concurrency 에 쉼표로 여러 값을 주면 단계별로 실행하고, loadtest.virtual-threads 로 내장 서버의 가상 스레드 모드를
+ * 켠다. 두 모드의 결과는 summary.csv 에 한 줄씩 쌓이므로 동시성에 따른 처리량을 비교할 수 있다.
+ */
+public class ScoreApiLoadTest {
+
+  private static final Duration WARMUP = duration("loadtest.warmup", "PT10S");
+  private static final Duration DURATION = duration("loadtest.duration", "PT30S");
+  private static final int[] CONCURRENCY_LEVELS =
+      Arrays.stream(System.getProperty("loadtest.concurrency", "32").split(","))
+          .map(String::trim)
+          .mapToInt(Integer::parseInt)
+          .toArray();
+  private static final double RATE = Double.parseDouble(System.getProperty("loadtest.rate", "500"));
+  private static final Duration REQUEST_TIMEOUT = duration("loadtest.request-timeout", "PT10S");
+  private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(10);
+  private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadtest.virtual-threads");
+  private static final double WRITE_RATIO =
+      Double.parseDouble(System.getProperty("loadtest.write-ratio", "0.2"));
+  private static final int EXAMS = Integer.getInteger("loadtest.exams", 10);
+  private static final Path REPORT_DIR =
+      Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+
+  private enum Operation {
+    WRITE,
+    READ_PASS,
+    READ_FAIL
+  }
+
+  private final String baseUrl;
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+  private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+  private final Map<Operation, Recorder> errorRecorders = new EnumMap<>(Operation.class);
+  private final AtomicLong studentSequence = new AtomicLong();
+
+  private ScoreApiLoadTest(String baseUrl) {
+    this.baseUrl = baseUrl;
+    for (Operation operation : Operation.values()) {
+      recorders.put(operation, new Recorder(MAX_LATENCY_NANOS, 3));
+      errorRecorders.put(operation, new Recorder(MAX_LATENCY_NANOS, 3));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    ConfigurableApplicationContext context = null;
+    String baseUrl = System.getProperty("loadtest.target");
+
+    if (baseUrl == null) {
+      context =
+          new SpringApplicationBuilder(DayonetestApplication.class)
+              .initializers(new IntegrationTest.IntegrationTestInitializer())
+              .properties("server.port=0")
+              .profiles(VIRTUAL_THREADS ? new String[] {"virtual-threads"} : new String[0])
+              .run(args);
+      baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    try {
+      new ScoreApiLoadTest(baseUrl).run();
+    } finally {
+      if (context != null) {
+        context.close();
+      }
+    }
+    System.exit(0);
+  }
+
+  private void run() throws InterruptedException, IOException {
+    createExams();
+    for (int concurrency : CONCURRENCY_LEVELS) {
+      System.out.printf(
+          "[loadtest] target=%s mode=%s concurrency=%d rate=%.0f/s writeRatio=%.2f exams=%d"
+              + " warmup=%s duration=%s timeout=%s%n",
+          baseUrl,
+          mode(),
+          concurrency,
+          RATE,
+          WRITE_RATIO,
+          EXAMS,
+          WARMUP,
+          DURATION,
+          REQUEST_TIMEOUT);
+
+      runPhase(WARMUP, concurrency);
+      recorders.values().forEach(Recorder::reset);
+      errorRecorders.values().forEach(Recorder::reset);
+
+      long start = System.nanoTime();
+      runPhase(DURATION, concurrency);
+      double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+      report(seconds, concurrency);
+    }
+  }
+
+  // 쓰기 경로는 시험 파티션을 만들지 않으므로 측정 전에 관리자 API 로 시험을 등록해 둔다
+  private void createExams() throws InterruptedException, IOException {
+    for (int i = 0; i < EXAMS; i++) {
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create(baseUrl + "/admin/exam/loadtest-" + i))
+              .PUT(HttpRequest.BodyPublishers.noBody())
+              .build();
+      int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      if (status >= 400) {
+        throw new IllegalStateException("exam registration failed. status=" + status);
+      }
+    }
+  }
+
+  private void runPhase(Duration duration, int concurrency) throws InterruptedException {
+    long start = System.nanoTime();
+    long deadline = start + duration.toNanos();
+    long intervalNanos = (long) (1_000_000_000.0 * concurrency / RATE);
+    // 클라이언트 쪽 스레드 수가 병목이 되지 않도록 워커는 항상 가상 스레드로 띄운다
+    ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    for (int i = 0; i < concurrency; i++) {
+      // 워커마다 시작 시각을 간격 안에서 흩어 두어 요청이 한꺼번에 몰리지 않게 한다
+      long firstSend = start + intervalNanos * i / concurrency;
+      workers.execute(
+          () -> {
+            for (long intended = firstSend;
+                intended < deadline && !Thread.currentThread().isInterrupted();
+                intended += intervalNanos) {
+              waitUntil(intended);
+              execute(nextOperation(), intended);
+            }
+          });
+    }
+
+    workers.shutdown();
+    if (!workers.awaitTermination(
+        duration.plus(REQUEST_TIMEOUT).plusMinutes(1).toSeconds(), TimeUnit.SECONDS)) {
+      workers.shutdownNow();
+    }
+  }
+
+  private static void waitUntil(long nanoTime) {
+    long remaining;
+    while ((remaining = nanoTime - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+
+  private Operation nextOperation() {
+    var random = ThreadLocalRandom.current();
+    if (random.nextDouble() < WRITE_RATIO) {
+      return Operation.WRITE;
+    }
+    return random.nextBoolean() ? Operation.READ_PASS : Operation.READ_FAIL;
+  }
+
+  // 예정된 전송 시각부터 잰다. 앞선 요청이 늦어져 밀린 시간도 이 요청의 지연시간에 포함된다
+  private void execute(Operation operation, long intendedStart) {
+    HttpRequest request = createRequest(operation);
+    boolean success = false;
+
+    try {
+      HttpResponse<Void> response =
+          httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+      success = response.statusCode() < 400;
+    } catch (IOException e) {
+      // 연결 실패와 HttpTimeoutException 도 실패한 요청으로 기록한다
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+
+    long latency = Math.min(System.nanoTime() - intendedStart, MAX_LATENCY_NANOS);
+    (success ? recorders : errorRecorders).get(operation).recordValue(latency);
+  }
+
+  private HttpRequest createRequest(Operation operation) {
+    var random = ThreadLocalRandom.current();
+    String exam = "loadtest-" + random.nextInt(EXAMS);
+
+    return switch (operation) {
+      case WRITE -> HttpRequest.newBuilder(URI.create(baseUrl + "/exam/" + exam + "/score"))
+          .timeout(REQUEST_TIMEOUT)
+          .header("Content-Type", "application/json")
+          .PUT(
+              HttpRequest.BodyPublishers.ofString(
+                  String.format(
+                      "{\"studentName\":\"student-%d\",\"korScore\":%d,"
+                          + "\"englishScore\":%d,\"mathScore\":%d}",
+                      studentSequence.incrementAndGet(),
+                      random.nextInt(101),
+                      random.nextInt(101),
+                      random.nextInt(101))))
+          .build();
+      case READ_PASS -> HttpRequest.newBuilder(URI.create(baseUrl + "/exam/" + exam + "/pass"))
+          .timeout(REQUEST_TIMEOUT)
+          .build();
+      case READ_FAIL -> HttpRequest.newBuilder(URI.create(baseUrl + "/exam/" + exam + "/fail"))
+          .timeout(REQUEST_TIMEOUT)
+          .build();
+    };
+  }
+
+  private void report(double seconds, int concurrency) throws IOException {
+    Path reportDir = REPORT_DIR.resolve(mode() + "-c" + concurrency);
+    Files.createDirectories(reportDir);
+    Histogram total = new Histogram(MAX_LATENCY_NANOS, 3);
+    Histogram totalErrors = new Histogram(MAX_LATENCY_NANOS, 3);
+
+    for (Operation operation : Operation.values()) {
+      String name = operation.name().toLowerCase();
+      Histogram histogram = recorders.get(operation).getIntervalHistogram();
+      Histogram errorHistogram = errorRecorders.get(operation).getIntervalHistogram();
+      total.add(histogram);
+      totalErrors.add(errorHistogram);
+      print(operation.name(), histogram, seconds);
+      print(operation.name() + "_ERR", errorHistogram, seconds);
+
+      writeHistogram(reportDir.resolve(name + ".hgrm"), histogram);
+      writeHistogram(reportDir.resolve(name + "-errors.hgrm"), errorHistogram);
+    }
+
+    print("TOTAL", total, seconds);
+    print("TOTAL_ERR", totalErrors, seconds);
+    System.out.printf(
+        "[loadtest] errors=%d histograms=%s%n", totalErrors.getTotalCount(), reportDir);
+    appendSummary(concurrency, total, totalErrors, seconds);
+  }
+
+  private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+    try (var out = new PrintStream(Files.newOutputStream(file))) {
+      histogram.outputPercentileDistribution(out, 1_000_000.0);
+    }
+  }
+
+  private void appendSummary(int concurrency, Histogram total, Histogram errors, double seconds)
+      throws IOException {
+    Path summary = REPORT_DIR.resolve("summary.csv");
+    if (Files.notExists(summary)) {
+      Files.writeString(
+          summary,
+          "mode,concurrency,target_rate,throughput,p50_ms,p99_ms,p999_ms,errors,error_p99_ms\n");
+    }
+
+    Files.writeString(
+        summary,
+        String.format(
+            "%s,%d,%.1f,%.1f,%.2f,%.2f,%.2f,%d,%.2f%n",
+            mode(),
+            concurrency,
+            RATE,
+            total.getTotalCount() / seconds,
+            total.getValueAtPercentile(50) / 1_000_000.0,
+            total.getValueAtPercentile(99) / 1_000_000.0,
+            total.getValueAtPercentile(99.9) / 1_000_000.0,
+            errors.getTotalCount(),
+            errors.getValueAtPercentile(99) / 1_000_000.0),
+        StandardOpenOption.APPEND);
+  }
+
+  private static String mode() {
+    return VIRTUAL_THREADS ? "virtual" : "platform";
+  }
+
+  private static void print(String name, Histogram histogram, double seconds) {
+    System.out.printf(
+        "[loadtest] %-9s requests=%d throughput=%.1f req/s"
+            + " p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms%n",
+        name,
+        histogram.getTotalCount(),
+        histogram.getTotalCount() / seconds,
+        histogram.getValueAtPercentile(50) / 1_000_000.0,
+        histogram.getValueAtPercentile(99) / 1_000_000.0,
+        histogram.getValueAtPercentile(99.9) / 1_000_000.0,
+        histogram.getMaxValue() / 1_000_000.0);
+  }
+
+  private static Duration duration(String property, String defaultValue) {
+    return Duration.parse(System.getProperty(property, defaultValue));
+  }
+}
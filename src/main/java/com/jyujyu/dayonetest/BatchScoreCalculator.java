@@ -0,0 +1,66 @@
+package com.jyujyu.dayonetest;
+
+public final class BatchScoreCalculator {
+
+  static final boolean VECTOR_AVAILABLE =
+      ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+  // 평균 60점 이상 == 세 과목 합계 180점 이상 (정수 비교로 판정)
+  static final int PASS_SUM = 180;
+
+  private static final int SUBJECT_COUNT = 3;
+
+  private BatchScoreCalculator() {}
+
+  public static BatchScores score(int[] korScores, int[] englishScores, int[] mathScores) {
+    int length = korScores.length;
+    var scores = new BatchScores(new double[length], new long[(length + 63) >>> 6]);
+    score(korScores, englishScores, mathScores, length, scores.averages(), scores.passBitmap());
+    return scores;
+  }
+
+  public static void score(
+      int[] korScores,
+      int[] englishScores,
+      int[] mathScores,
+      int length,
+      double[] averages,
+      long[] passBitmap) {
+    if (VECTOR_AVAILABLE) {
+      VectorBatchScoreCalculator.score(
+          korScores, englishScores, mathScores, length, averages, passBitmap);
+    } else {
+      scoreScalar(korScores, englishScores, mathScores, 0, length, averages, passBitmap);
+    }
+  }
+
+  public static boolean isPass(long[] passBitmap, int index) {
+    return (passBitmap[index >>> 6] & (1L << index)) != 0;
+  }
+
+  static void scoreScalar(
+      int[] korScores,
+      int[] englishScores,
+      int[] mathScores,
+      int from,
+      int length,
+      double[] averages,
+      long[] passBitmap) {
+    for (int i = from; i < length; i++) {
+      int sum = korScores[i] + englishScores[i] + mathScores[i];
+      averages[i] = (double) sum / SUBJECT_COUNT;
+      if (sum >= PASS_SUM) {
+        passBitmap[i >>> 6] |= 1L << i;
+      } else {
+        passBitmap[i >>> 6] &= ~(1L << i);
+      }
+    }
+  }
+
+  public record BatchScores(double[] averages, long[] passBitmap) {
+
+    public boolean isPass(int index) {
+      return BatchScoreCalculator.isPass(passBitmap, index);
+    }
+  }
+}
@@ -3,7 +3,9 @@ package com.jyujyu.dayonetest;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableAsync;
 
+@EnableAsync
 @EnableJpaRepositories
 @SpringBootApplication
 public class DayonetestApplication {
@@ -1,12 +1,15 @@
 package com.jyujyu.dayonetest;
 
+import com.jyujyu.dayonetest.config.KafkaConfig;
 import com.jyujyu.dayonetest.service.KafkaConsumerService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.support.Acknowledgment;
 
 @Configuration
 @RequiredArgsConstructor
@@ -16,11 +19,15 @@ public class KafkaConsumerApplication {
 
   @Bean
   public NewTopic topic() {
-    return TopicBuilder.name("test-topic").build();
+    return TopicBuilder.name("test-topic").partitions(3).build();
   }
 
-  @KafkaListener(id = "test-id", topics = "test-topic")
-  public void listen(String message) {
-    kafkaConsumerService.process(message);
+  @KafkaListener(
+      id = "test-id",
+      topics = "test-topic",
+      containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+  public void listen(List<String> messages, Acknowledgment acknowledgment) {
+    kafkaConsumerService.processBatch(messages);
+    acknowledgment.acknowledge();
   }
 }
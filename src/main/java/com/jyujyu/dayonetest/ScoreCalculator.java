@@ -0,0 +1,18 @@
+package com.jyujyu.dayonetest;
+
+public final class ScoreCalculator {
+
+  public static final double PASS_SCORE = 60.0;
+
+  private static final int SUBJECT_COUNT = 3;
+
+  private ScoreCalculator() {}
+
+  public static double average(int korScore, int englishScore, int mathScore) {
+    return (double) (korScore + englishScore + mathScore) / SUBJECT_COUNT;
+  }
+
+  public static boolean isPass(double avgScore) {
+    return avgScore >= PASS_SCORE;
+  }
+}
@@ -0,0 +1,42 @@
+package com.jyujyu.dayonetest;
+
+import com.jyujyu.dayonetest.config.KafkaConfig;
+import com.jyujyu.dayonetest.service.ScoreIngestionService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.support.Acknowledgment;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "score.ingestion.mode", havingValue = "async")
+public class ScoreIngestionConsumerApplication {
+
+  private final ScoreIngestionService scoreIngestionService;
+
+  @Bean
+  public NewTopic scoreTopic() {
+    return TopicBuilder.name(ScoreIngestionService.TOPIC).partitions(3).build();
+  }
+
+  @Bean
+  public NewTopic scoreDeadLetterTopic() {
+    return TopicBuilder.name(ScoreIngestionService.TOPIC + KafkaConfig.DEAD_LETTER_SUFFIX)
+        .partitions(3)
+        .build();
+  }
+
+  @KafkaListener(
+      id = "score-ingestion",
+      topics = ScoreIngestionService.TOPIC,
+      containerFactory = KafkaConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+  public void listen(List<String> messages, Acknowledgment acknowledgment) {
+    scoreIngestionService.persist(messages);
+    acknowledgment.acknowledge();
+  }
+}
@@ -0,0 +1,51 @@
+package com.jyujyu.dayonetest;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorBatchScoreCalculator {
+
+  private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Double> DOUBLE_SPECIES =
+      VectorSpecies.of(double.class, INT_SPECIES.vectorShape());
+  private static final int PARTS = INT_SPECIES.length() / DOUBLE_SPECIES.length();
+  private static final long LANE_MASK =
+      INT_SPECIES.length() >= 64 ? -1L : (1L << INT_SPECIES.length()) - 1;
+
+  private VectorBatchScoreCalculator() {}
+
+  static void score(
+      int[] korScores,
+      int[] englishScores,
+      int[] mathScores,
+      int length,
+      double[] averages,
+      long[] passBitmap) {
+    int lanes = INT_SPECIES.length();
+    int upperBound = INT_SPECIES.loopBound(length);
+    int i = 0;
+
+    for (; i < upperBound; i += lanes) {
+      IntVector sum =
+          IntVector.fromArray(INT_SPECIES, korScores, i)
+              .add(IntVector.fromArray(INT_SPECIES, englishScores, i))
+              .add(IntVector.fromArray(INT_SPECIES, mathScores, i));
+
+      for (int part = 0; part < PARTS; part++) {
+        ((DoubleVector) sum.convertShape(VectorOperators.I2D, DOUBLE_SPECIES, part))
+            .div(3.0)
+            .intoArray(averages, i + part * DOUBLE_SPECIES.length());
+      }
+
+      // 레인 수(4/8/16)는 64의 약수라서 한 번의 비교 결과가 long 하나 안에 들어간다
+      long passBits = sum.compare(VectorOperators.GE, BatchScoreCalculator.PASS_SUM).toLong();
+      int shift = i & 63;
+      passBitmap[i >>> 6] = (passBitmap[i >>> 6] & ~(LANE_MASK << shift)) | (passBits << shift);
+    }
+
+    BatchScoreCalculator.scoreScalar(
+        korScores, englishScores, mathScores, i, length, averages, passBitmap);
+  }
+}
@@ -0,0 +1,55 @@
+package com.jyujyu.dayonetest.config;
+
+import java.io.UncheckedIOException;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+@Configuration
+public class KafkaConfig {
+
+  public static final String BATCH_LISTENER_CONTAINER_FACTORY =
+      "batchKafkaListenerContainerFactory";
+
+  public static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+  @Value("${kafka.listener.concurrency:3}")
+  int listenerConcurrency;
+
+  @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+  public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+      ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+      ConsumerFactory<Object, Object> kafkaConsumerFactory,
+      KafkaTemplate<String, String> kafkaTemplate) {
+    var factory = new ConcurrentKafkaListenerContainerFactory<Object, Object>();
+    configurer.configure(factory, kafkaConsumerFactory);
+
+    factory.setBatchListener(true);
+    factory.setConcurrency(listenerConcurrency);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+    factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate));
+    return factory;
+  }
+
+  // 실패한 레코드는 재시도 후 <topic>.DLT 의 같은 파티션으로 보낸다. 기본 핸들러처럼 로그만 남기고 커밋하면 점수가 유실된다
+  private DefaultErrorHandler deadLetterErrorHandler(KafkaTemplate<String, String> kafkaTemplate) {
+    var recoverer =
+        new DeadLetterPublishingRecoverer(
+            kafkaTemplate,
+            (record, exception) ->
+                new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, record.partition()));
+    var errorHandler = new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 2L));
+    // 파싱할 수 없는 메시지는 다시 읽어도 실패하므로 바로 DLT 로 보낸다
+    errorHandler.addNotRetryableExceptions(UncheckedIOException.class);
+    return errorHandler;
+  }
+}
@@ -0,0 +1,16 @@
+package com.jyujyu.dayonetest.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+  // @Timed 가 붙은 서비스 메서드의 지연 시간을 기록 (HikariCP, Kafka 클라이언트, 레포지토리 지표는 Actuator 가 자동 등록)
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+}
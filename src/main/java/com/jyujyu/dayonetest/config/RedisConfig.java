@@ -0,0 +1,25 @@
+package com.jyujyu.dayonetest.config;
+
+import com.jyujyu.dayonetest.service.NearCacheService;
+import java.nio.charset.StandardCharsets;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory, NearCacheService nearCacheService) {
+    var container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(
+        (message, pattern) ->
+            nearCacheService.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(NearCacheService.INVALIDATION_CHANNEL));
+    return container;
+  }
+}
@@ -1,10 +1,14 @@
 package com.jyujyu.dayonetest.config;
 
+import com.jyujyu.dayonetest.support.S3MultipartSettings;
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProviderChain;
@@ -19,6 +23,18 @@ public class S3Config {
   @Value("${aws.endpoint}")
   String awsEndpoint;
 
+  @Value("${aws.s3.multipart.part-size:8MB}")
+  DataSize multipartPartSize;
+
+  @Value("${aws.s3.multipart.concurrency:4}")
+  int multipartConcurrency;
+
+  @Value("${aws.s3.multipart.max-attempts:3}")
+  int multipartMaxAttempts;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  boolean virtualThreadsEnabled;
+
   @Bean
   public AwsCredentialsProvider awsCredentialsProvider() {
     return AwsCredentialsProviderChain.builder()
@@ -38,4 +54,19 @@ public class S3Config {
         .endpointOverride(URI.create(awsEndpoint))
         .build();
   }
+
+  @Bean
+  public S3MultipartSettings s3MultipartSettings() {
+    return new S3MultipartSettings(
+        multipartPartSize.toBytes(), multipartConcurrency, multipartMaxAttempts);
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService s3TransferExecutor() {
+    // 가상 스레드 모드에서는 파트마다 스레드를 만들고, 동시 업로드 수는 호출부의 Semaphore 로 제한한다
+    if (virtualThreadsEnabled) {
+      return Executors.newVirtualThreadPerTaskExecutor();
+    }
+    return Executors.newFixedThreadPool(multipartConcurrency);
+  }
 }
@@ -0,0 +1,63 @@
+package com.jyujyu.dayonetest.controller;
+
+import com.jyujyu.dayonetest.controller.response.ExamArchiveResponse;
+import com.jyujyu.dayonetest.controller.response.ExamExportResponse;
+import com.jyujyu.dayonetest.controller.response.ExamImportResponse;
+import com.jyujyu.dayonetest.service.ExamAdminJobService;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class ExamAdminApi {
+
+  private final ExamAdminJobService examAdminJobService;
+
+  @PostMapping("/admin/exam/{exam}/export")
+  public CompletableFuture<ExamExportResponse> export(
+      @PathVariable("exam") String exam,
+      @RequestParam("bucket") String bucket,
+      @RequestParam(value = "prefix", defaultValue = "exports") String prefix) {
+    return examAdminJobService.export(exam, bucket, prefix);
+  }
+
+  @PostMapping("/admin/exam/{exam}/import")
+  public CompletableFuture<ExamImportResponse> importScores(
+      @PathVariable("exam") String exam,
+      @RequestParam("bucket") String bucket,
+      @RequestParam("key") String key,
+      @RequestParam(value = "startRow", defaultValue = "0") long startRow) {
+    return examAdminJobService.importScores(exam, bucket, key, startRow);
+  }
+
+  @PostMapping("/admin/exam/{exam}/stats/backfill")
+  public CompletableFuture<Long> backfillStats(@PathVariable("exam") String exam) {
+    return examAdminJobService.backfillStats(exam);
+  }
+
+  @PostMapping("/admin/exam/{exam}/leaderboard/rebuild")
+  public CompletableFuture<Long> rebuildLeaderboard(@PathVariable("exam") String exam) {
+    return examAdminJobService.rebuildLeaderboard(exam);
+  }
+
+  @PutMapping("/admin/exam/{exam}")
+  public CompletableFuture<Void> createExam(@PathVariable("exam") String exam) {
+    return examAdminJobService.createExam(exam);
+  }
+
+  @DeleteMapping("/admin/exam/{exam}")
+  public CompletableFuture<Void> dropExam(@PathVariable("exam") String exam) {
+    return examAdminJobService.dropExam(exam);
+  }
+
+  @PostMapping("/admin/exam/{exam}/archive")
+  public CompletableFuture<ExamArchiveResponse> archiveExam(@PathVariable("exam") String exam) {
+    return examAdminJobService.archiveExam(exam);
+  }
+}
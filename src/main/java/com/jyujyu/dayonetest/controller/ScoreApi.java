@@ -1,31 +1,61 @@
 package com.jyujyu.dayonetest.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
+import com.jyujyu.dayonetest.controller.response.ExamDistributionResponse;
+import com.jyujyu.dayonetest.controller.response.ExamFailStudentPageResponse;
 import com.jyujyu.dayonetest.controller.response.ExamFailStudentResponse;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentPageResponse;
 import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import com.jyujyu.dayonetest.controller.response.ExamRankResponse;
+import com.jyujyu.dayonetest.controller.response.ExamStatsResponse;
+import com.jyujyu.dayonetest.service.ExamLeaderboardService;
+import com.jyujyu.dayonetest.service.ExamResultQueryService;
+import com.jyujyu.dayonetest.service.ExamStatsService;
+import com.jyujyu.dayonetest.service.ScoreIngestionService;
 import com.jyujyu.dayonetest.service.StudentScoreService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class ScoreApi {
 
   private final StudentScoreService studentScoreService;
+  private final ExamResultQueryService examResultQueryService;
+  private final ScoreIngestionService scoreIngestionService;
+  private final ExamStatsService examStatsService;
+  private final ExamLeaderboardService examLeaderboardService;
+  private final ObjectMapper objectMapper;
 
   @PutMapping("/exam/{exam}/score")
-  public void save(@PathVariable("exam") String exam, @RequestBody SaveExamScoreRequest request) {
-    studentScoreService.saveScore(
-        exam,
-        request.getStudentName(),
-        request.getKorScore(),
-        request.getEnglishScore(),
-        request.getMathScore());
+  public ResponseEntity<Void> save(
+      @PathVariable("exam") String exam, @RequestBody SaveExamScoreRequest request) {
+    boolean queued = scoreIngestionService.submit(exam, request);
+    return queued ? ResponseEntity.accepted().build() : ResponseEntity.ok().build();
+  }
+
+  @PutMapping("/exam/{exam}/scores")
+  public void saveAll(
+      @PathVariable("exam") String exam, @RequestBody List<SaveExamScoreRequest> requests) {
+    studentScoreService.saveScores(exam, requests);
   }
 
   @GetMapping("/exam/{exam}/pass")
@@ -37,4 +67,78 @@ public class ScoreApi {
   public List<ExamFailStudentResponse> fail(@PathVariable("exam") String exam) {
     return studentScoreService.getFailStudentsList(exam);
   }
+
+  @GetMapping("/exam/{exam}/stats")
+  public ExamStatsResponse stats(@PathVariable("exam") String exam) {
+    return examStatsService.getStats(exam);
+  }
+
+  @GetMapping("/exam/{exam}/distribution")
+  public ExamDistributionResponse distribution(@PathVariable("exam") String exam) {
+    return examStatsService.getDistribution(exam);
+  }
+
+  @GetMapping("/exam/{exam}/top")
+  public List<ExamRankResponse> top(
+      @PathVariable("exam") String exam, @RequestParam(value = "k", defaultValue = "10") int k) {
+    return examLeaderboardService.getTop(exam, k);
+  }
+
+  @GetMapping("/exam/{exam}/rank/{student}")
+  public ResponseEntity<ExamRankResponse> rank(
+      @PathVariable("exam") String exam, @PathVariable("student") String student) {
+    return ResponseEntity.of(examLeaderboardService.getRank(exam, student));
+  }
+
+  @GetMapping("/exam/{exam}/pass/page")
+  public ExamPassStudentPageResponse passPage(
+      @PathVariable("exam") String exam,
+      @RequestParam(value = "cursor", defaultValue = "0") long cursor,
+      @RequestParam(value = "size", defaultValue = "100") int size) {
+    return examResultQueryService.getPassStudentsPage(exam, cursor, size);
+  }
+
+  @GetMapping("/exam/{exam}/fail/page")
+  public ExamFailStudentPageResponse failPage(
+      @PathVariable("exam") String exam,
+      @RequestParam(value = "cursor", defaultValue = "0") long cursor,
+      @RequestParam(value = "size", defaultValue = "100") int size) {
+    return examResultQueryService.getFailStudentsPage(exam, cursor, size);
+  }
+
+  @GetMapping(value = "/exam/{exam}/pass", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public StreamingResponseBody passStream(@PathVariable("exam") String exam) {
+    return out ->
+        writeNdjson(
+            out,
+            (Consumer<ExamPassStudentResponse> consumer) ->
+                examResultQueryService.streamPassStudents(exam, consumer));
+  }
+
+  @GetMapping(value = "/exam/{exam}/fail", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public StreamingResponseBody failStream(@PathVariable("exam") String exam) {
+    return out ->
+        writeNdjson(
+            out,
+            (Consumer<ExamFailStudentResponse> consumer) ->
+                examResultQueryService.streamFailStudents(exam, consumer));
+  }
+
+  private <T> void writeNdjson(OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+    ObjectWriter writer =
+        objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+      generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+      source.accept(
+          student -> {
+            try {
+              writer.writeValue(generator, student);
+              generator.writeRaw('\n');
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    }
+  }
 }
@@ -0,0 +1,51 @@
+package com.jyujyu.dayonetest.controller.advice;
+
+import com.jyujyu.dayonetest.exception.ExamImportException;
+import com.jyujyu.dayonetest.exception.ExamPartitionChangedException;
+import com.jyujyu.dayonetest.exception.LeaderboardRebuildInProgressException;
+import com.jyujyu.dayonetest.exception.PartitionLimitException;
+import com.jyujyu.dayonetest.exception.PartitionLockTimeoutException;
+import com.jyujyu.dayonetest.exception.ScorePublishException;
+import com.jyujyu.dayonetest.exception.UnknownExamException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 서비스가 던지는 도메인 예외를 HTTP 상태로 바꾼다. 서비스는 웹 계층을 모르고, 상태 코드는 여기서만 정한다.
+ *
+ * <p>503 은 저장되지 않았으니 같은 요청을 다시 보내면 된다는 뜻이다.
+ */
+@RestControllerAdvice
+public class ApiExceptionAdvice {
+
+  @ExceptionHandler(UnknownExamException.class)
+  public ProblemDetail handleNotFound(RuntimeException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+  }
+
+  @ExceptionHandler({PartitionLimitException.class, LeaderboardRebuildInProgressException.class})
+  public ProblemDetail handleConflict(RuntimeException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+  }
+
+  @ExceptionHandler({
+    ExamPartitionChangedException.class,
+    PartitionLockTimeoutException.class,
+    ScorePublishException.class
+  })
+  public ProblemDetail handleUnavailable(RuntimeException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+  }
+
+  // 이어서 import 하려면 이미 커밋된 행 수를 알아야 하므로 본문에 startRow 로 실어 준다
+  @ExceptionHandler(ExamImportException.class)
+  public ProblemDetail handleImportFailure(ExamImportException e) {
+    ProblemDetail problem =
+        ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+    problem.setProperty("exam", e.getExam());
+    problem.setProperty("startRow", e.getCommittedRows());
+    return problem;
+  }
+}
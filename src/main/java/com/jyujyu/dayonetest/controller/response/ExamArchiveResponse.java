@@ -0,0 +1,14 @@
+package com.jyujyu.dayonetest.controller.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ExamArchiveResponse {
+
+  private final List<String> archiveTables;
+}
@@ -0,0 +1,15 @@
+package com.jyujyu.dayonetest.controller.response;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ExamDistributionResponse {
+
+  private final String exam;
+  private final Map<String, SubjectDistributionResponse> subjects;
+}
@@ -0,0 +1,15 @@
+package com.jyujyu.dayonetest.controller.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ExamFailStudentPageResponse {
+
+  private final List<ExamFailStudentResponse> students;
+  private final Long nextCursor;
+}
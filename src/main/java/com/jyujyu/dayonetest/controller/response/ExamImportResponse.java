@@ -0,0 +1,17 @@
+package com.jyujyu.dayonetest.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ExamImportResponse {
+
+  private final long rows;
+  // 파일 앞에서부터 커밋된 데이터 행 수. 실패 후 이어서 import 할 때의 startRow 와 같은 기준이다
+  private final long committedRows;
+  private final long elapsedMillis;
+  private final double rowsPerSecond;
+}
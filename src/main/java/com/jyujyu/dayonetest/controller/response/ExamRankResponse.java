@@ -0,0 +1,15 @@
+package com.jyujyu.dayonetest.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ExamRankResponse {
+
+  private final String studentName;
+  private final long rank;
+  private final double avgScore;
+}
@@ -0,0 +1,18 @@
+package com.jyujyu.dayonetest.controller.response;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ExamStatsResponse {
+
+  private final String exam;
+  private final long count;
+  private final long passCount;
+  private final double passRate;
+  private final Map<String, SubjectStatsResponse> subjects;
+}
@@ -0,0 +1,17 @@
+package com.jyujyu.dayonetest.controller.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class SubjectDistributionResponse {
+
+  private final long count;
+  private final int median;
+  private final int p90;
+  private final List<Long> histogram;
+}
@@ -0,0 +1,16 @@
+package com.jyujyu.dayonetest.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class SubjectStatsResponse {
+
+  private final double mean;
+  private final double stddev;
+  private final long min;
+  private final long max;
+}
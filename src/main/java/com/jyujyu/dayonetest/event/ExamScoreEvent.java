@@ -0,0 +1,4 @@
+package com.jyujyu.dayonetest.event;
+
+public record ExamScoreEvent(
+    String exam, String studentName, Integer korScore, Integer englishScore, Integer mathScore) {}
@@ -0,0 +1,17 @@
+package com.jyujyu.dayonetest.exception;
+
+import lombok.Getter;
+
+/** 일괄 import 가 중간에 실패했을 때, 이미 커밋된 행 수(다음 import 의 startRow)를 알려준다. */
+@Getter
+public class ExamImportException extends RuntimeException {
+
+  private final String exam;
+  private final long committedRows;
+
+  public ExamImportException(String exam, long committedRows, Throwable cause) {
+    super("score import failed. exam=" + exam + " resume with startRow=" + committedRows, cause);
+    this.exam = exam;
+    this.committedRows = committedRows;
+  }
+}
@@ -0,0 +1,15 @@
+package com.jyujyu.dayonetest.exception;
+
+import lombok.Getter;
+
+/** 시험 파티션이 바뀌는 중이라 쓰지 못했다. 다른 노드가 지웠다가 다시 만들었거나 자동 등록이 아직 끝나지 않았다. 다시 시도하면 된다. */
+@Getter
+public class ExamPartitionChangedException extends RuntimeException {
+
+  private final String exam;
+
+  public ExamPartitionChangedException(String exam, Throwable cause) {
+    super("exam partition changed, retry: " + exam, cause);
+    this.exam = exam;
+  }
+}
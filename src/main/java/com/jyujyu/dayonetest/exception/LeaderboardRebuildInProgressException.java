@@ -0,0 +1,15 @@
+package com.jyujyu.dayonetest.exception;
+
+import lombok.Getter;
+
+/** 같은 시험의 리더보드 재구성이 이미 진행 중이다. */
+@Getter
+public class LeaderboardRebuildInProgressException extends RuntimeException {
+
+  private final String exam;
+
+  public LeaderboardRebuildInProgressException(String exam) {
+    super("leaderboard rebuild already running. exam=" + exam);
+    this.exam = exam;
+  }
+}
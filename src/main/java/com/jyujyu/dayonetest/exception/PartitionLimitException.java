@@ -0,0 +1,15 @@
+package com.jyujyu.dayonetest.exception;
+
+import lombok.Getter;
+
+/** 테이블의 파티션 수가 MySQL 한도에 닿아 새 시험을 등록할 수 없다. */
+@Getter
+public class PartitionLimitException extends RuntimeException {
+
+  private final String table;
+
+  public PartitionLimitException(String table) {
+    super("partition limit reached on " + table + ". archive or drop finished exams first");
+    this.table = table;
+  }
+}
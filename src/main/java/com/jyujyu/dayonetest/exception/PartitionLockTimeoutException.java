@@ -0,0 +1,9 @@
+package com.jyujyu.dayonetest.exception;
+
+/** 파티션 DDL 이 lock_wait_timeout 안에 테이블 메타데이터 락을 얻지 못했다. 다시 시도하면 된다. */
+public class PartitionLockTimeoutException extends RuntimeException {
+
+  public PartitionLockTimeoutException(Throwable cause) {
+    super("partition DDL timed out waiting for table lock", cause);
+  }
+}
@@ -0,0 +1,9 @@
+package com.jyujyu.dayonetest.exception;
+
+/** 점수 이벤트가 브로커 ack 를 받지 못했다. 저장되지 않았으므로 다시 제출해야 한다. */
+public class ScorePublishException extends RuntimeException {
+
+  public ScorePublishException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,15 @@
+package com.jyujyu.dayonetest.exception;
+
+import lombok.Getter;
+
+/** 파티션이 없는(등록되지 않은) 시험에 점수를 쓰려고 했다. */
+@Getter
+public class UnknownExamException extends RuntimeException {
+
+  private final String exam;
+
+  public UnknownExamException(String exam) {
+    super("unknown exam: " + exam + ". register it with PUT /admin/exam/" + exam);
+    this.exam = exam;
+  }
+}
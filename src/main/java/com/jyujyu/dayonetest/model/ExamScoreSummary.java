@@ -0,0 +1,40 @@
+package com.jyujyu.dayonetest.model;
+
+public interface ExamScoreSummary {
+
+  Long getCount();
+
+  Long getPassCount();
+
+  Long getKorSum();
+
+  Long getKorSquareSum();
+
+  Long getKorMin();
+
+  Long getKorMax();
+
+  Long getEnglishSum();
+
+  Long getEnglishSquareSum();
+
+  Long getEnglishMin();
+
+  Long getEnglishMax();
+
+  Long getMathSum();
+
+  Long getMathSquareSum();
+
+  Long getMathMin();
+
+  Long getMathMax();
+
+  Long getTotalSum();
+
+  Long getTotalSquareSum();
+
+  Long getTotalMin();
+
+  Long getTotalMax();
+}
@@ -0,0 +1,8 @@
+package com.jyujyu.dayonetest.model;
+
+public interface ScoreCount {
+
+  Integer getScore();
+
+  Long getCount();
+}
@@ -1,6 +1,21 @@
 package com.jyujyu.dayonetest.repository;
 
+import com.jyujyu.dayonetest.controller.response.ExamFailStudentResponse;
 import com.jyujyu.dayonetest.model.StudentFail;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface StudentFailRepository extends JpaRepository<StudentFail, Long> {}
+public interface StudentFailRepository extends JpaRepository<StudentFail, Long> {
+
+  List<ExamFailStudentResponse> findByExam(String exam);
+
+  List<StudentFail> findByExamAndIdGreaterThanOrderByIdAsc(String exam, Long id, Limit limit);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+  Stream<ExamFailStudentResponse> streamByExamOrderById(String exam);
+}
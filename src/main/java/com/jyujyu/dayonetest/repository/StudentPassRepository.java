@@ -1,6 +1,21 @@
 package com.jyujyu.dayonetest.repository;
 
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
 import com.jyujyu.dayonetest.model.StudentPass;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface StudentPassRepository extends JpaRepository<StudentPass, Long> {}
+public interface StudentPassRepository extends JpaRepository<StudentPass, Long> {
+
+  List<ExamPassStudentResponse> findByExam(String exam);
+
+  List<StudentPass> findByExamAndIdGreaterThanOrderByIdAsc(String exam, Long id, Limit limit);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+  Stream<ExamPassStudentResponse> streamByExamOrderById(String exam);
+}
@@ -1,6 +1,67 @@
 package com.jyujyu.dayonetest.repository;
 
+import com.jyujyu.dayonetest.model.ExamScoreSummary;
+import com.jyujyu.dayonetest.model.ScoreCount;
 import com.jyujyu.dayonetest.model.StudentScore;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface StudentScoreRepository extends JpaRepository<StudentScore, Long> {}
+public interface StudentScoreRepository extends JpaRepository<StudentScore, Long> {
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+  Stream<StudentScore> streamByExamOrderById(String exam);
+
+  @Query(
+      """
+      select count(s) as count,
+             sum(case when s.korScore + s.englishScore + s.mathScore >= 180 then 1 else 0 end)
+               as passCount,
+             sum(s.korScore) as korSum,
+             sum(s.korScore * s.korScore) as korSquareSum,
+             min(s.korScore) as korMin,
+             max(s.korScore) as korMax,
+             sum(s.englishScore) as englishSum,
+             sum(s.englishScore * s.englishScore) as englishSquareSum,
+             min(s.englishScore) as englishMin,
+             max(s.englishScore) as englishMax,
+             sum(s.mathScore) as mathSum,
+             sum(s.mathScore * s.mathScore) as mathSquareSum,
+             min(s.mathScore) as mathMin,
+             max(s.mathScore) as mathMax,
+             sum(s.korScore + s.englishScore + s.mathScore) as totalSum,
+             sum((s.korScore + s.englishScore + s.mathScore)
+               * (s.korScore + s.englishScore + s.mathScore)) as totalSquareSum,
+             min(s.korScore + s.englishScore + s.mathScore) as totalMin,
+             max(s.korScore + s.englishScore + s.mathScore) as totalMax
+      from StudentScore s
+      where s.exam = :exam
+      """)
+  ExamScoreSummary summarizeByExam(@Param("exam") String exam);
+
+  @Query(
+      "select s.korScore as score, count(s) as count from StudentScore s"
+          + " where s.exam = :exam group by s.korScore")
+  List<ScoreCount> countByKorScore(@Param("exam") String exam);
+
+  @Query(
+      "select s.englishScore as score, count(s) as count from StudentScore s"
+          + " where s.exam = :exam group by s.englishScore")
+  List<ScoreCount> countByEnglishScore(@Param("exam") String exam);
+
+  @Query(
+      "select s.mathScore as score, count(s) as count from StudentScore s"
+          + " where s.exam = :exam group by s.mathScore")
+  List<ScoreCount> countByMathScore(@Param("exam") String exam);
+
+  @Query(
+      "select s.korScore + s.englishScore + s.mathScore as score, count(s) as count"
+          + " from StudentScore s where s.exam = :exam"
+          + " group by s.korScore + s.englishScore + s.mathScore")
+  List<ScoreCount> countByTotalScore(@Param("exam") String exam);
+}
@@ -0,0 +1,75 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamArchiveResponse;
+import com.jyujyu.dayonetest.controller.response.ExamExportResponse;
+import com.jyujyu.dayonetest.controller.response.ExamImportResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 오래 걸리는 관리자 작업을 요청 스레드가 아닌 애플리케이션 TaskExecutor 에서 실행한다.
+ *
+ * <p>spring.threads.virtual.enabled 가 켜져 있으면 TaskExecutor 도 가상 스레드를 사용한다.
+ */
+@Async
+@Service
+@RequiredArgsConstructor
+public class ExamAdminJobService {
+
+  private final ExamResultExportService examResultExportService;
+  private final ExamScoreImportService examScoreImportService;
+  private final ExamStatsService examStatsService;
+  private final ExamLeaderboardService examLeaderboardService;
+  private final ExamPartitionService examPartitionService;
+  private final ExamResultCacheService examResultCacheService;
+  private final RedisService redisService;
+
+  public CompletableFuture<ExamExportResponse> export(String exam, String bucket, String prefix) {
+    return CompletableFuture.completedFuture(examResultExportService.export(exam, bucket, prefix));
+  }
+
+  public CompletableFuture<ExamImportResponse> importScores(
+      String exam, String bucket, String key, long startRow) {
+    return CompletableFuture.completedFuture(
+        examScoreImportService.importScores(exam, bucket, key, startRow));
+  }
+
+  public CompletableFuture<Long> backfillStats(String exam) {
+    return CompletableFuture.completedFuture(examStatsService.backfill(exam));
+  }
+
+  public CompletableFuture<Long> rebuildLeaderboard(String exam) {
+    return CompletableFuture.completedFuture(examLeaderboardService.rebuild(exam));
+  }
+
+  public CompletableFuture<Void> createExam(String exam) {
+    examPartitionService.createPartition(exam);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  public CompletableFuture<Void> dropExam(String exam) {
+    examPartitionService.dropPartition(exam);
+    evictExam(exam);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  public CompletableFuture<ExamArchiveResponse> archiveExam(String exam) {
+    List<String> archiveTables = examPartitionService.archivePartition(exam);
+    evictExam(exam);
+    return CompletableFuture.completedFuture(new ExamArchiveResponse(archiveTables));
+  }
+
+  // 파티션이 사라진 시험의 명단 캐시, 통계, 리더보드도 함께 지운다
+  private void evictExam(String exam) {
+    examResultCacheService.evict(
+        ExamResultCacheService.passKey(exam), ExamResultCacheService.failKey(exam));
+    redisService.delete(
+        List.of(
+            ExamStatsService.statsKey(exam),
+            ExamStatsService.histogramKey(exam),
+            ExamLeaderboardService.leaderboardKey(exam)));
+  }
+}
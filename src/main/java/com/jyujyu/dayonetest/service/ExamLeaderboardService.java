@@ -0,0 +1,181 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamRankResponse;
+import com.jyujyu.dayonetest.exception.LeaderboardRebuildInProgressException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamLeaderboardService {
+
+  private static final int MAX_TOP_K = 1000;
+  private static final int REBUILD_CHUNK_SIZE = 1000;
+  // rebuild 가 중간에 죽어도 진행 표시 키와 임시 키가 영원히 남지 않도록 건다
+  private static final Duration REBUILD_TTL = Duration.ofMinutes(30);
+
+  private static final RedisScript<Long> RECORD_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/exam-leaderboard-record.lua"), Long.class);
+  private static final RedisScript<Long> REBUILD_START_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/exam-leaderboard-rebuild-start.lua"), Long.class);
+  private static final RedisScript<Long> REBUILD_FINISH_SCRIPT =
+      RedisScript.of(
+          new ClassPathResource("redis/exam-leaderboard-rebuild-finish.lua"), Long.class);
+
+  private final RedisService redisService;
+  private final ExamResultQueryService examResultQueryService;
+
+  public static String leaderboardKey(String exam) {
+    return "exam:" + exam + ":leaderboard";
+  }
+
+  public static String rebuildingKey(String exam) {
+    return leaderboardKey(exam) + ":rebuilding";
+  }
+
+  public static String rebuildKey(String exam) {
+    return leaderboardKey(exam) + ":rebuild";
+  }
+
+  public void record(String exam, Map<String, Double> avgScores) {
+    if (avgScores.isEmpty()) {
+      return;
+    }
+    String[] args = new String[avgScores.size() * 2];
+    int i = 0;
+    for (Map.Entry<String, Double> entry : avgScores.entrySet()) {
+      args[i++] = entry.getKey();
+      args[i++] = String.valueOf(entry.getValue());
+    }
+    try {
+      redisService.execute(
+          RECORD_SCRIPT,
+          List.of(leaderboardKey(exam), rebuildingKey(exam), rebuildKey(exam)),
+          args);
+    } catch (DataAccessException e) {
+      // 랭킹 갱신 실패는 점수 저장에 영향을 주지 않는다. rebuild 로 다시 맞춘다
+      log.warn("exam leaderboard update failed. exam={}", exam, e);
+    }
+  }
+
+  public List<ExamRankResponse> getTop(String exam, int k) {
+    int limit = Math.clamp(k, 0, MAX_TOP_K);
+    if (limit == 0) {
+      return List.of();
+    }
+
+    var top = redisService.zReverseRangeWithScores(leaderboardKey(exam), 0, limit - 1);
+    List<ExamRankResponse> responses = new ArrayList<>(top.size());
+    long rank = 1;
+    for (TypedTuple<String> tuple : top) {
+      responses.add(new ExamRankResponse(tuple.getValue(), rank++, tuple.getScore()));
+    }
+    return responses;
+  }
+
+  public Optional<ExamRankResponse> getRank(String exam, String studentName) {
+    String key = leaderboardKey(exam);
+    List<Object> results =
+        redisService.pipelined(
+            connection -> {
+              connection.zRevRank(key, studentName);
+              connection.zScore(key, studentName);
+            });
+
+    if (results.get(0) == null || results.get(1) == null) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new ExamRankResponse(
+            studentName, ((Number) results.get(0)).longValue() + 1, (Double) results.get(1)));
+  }
+
+  public long rebuild(String exam) {
+    String token = UUID.randomUUID().toString();
+    // 진행 표시 키를 스트리밍 전에 세워 두어야 그 사이에 커밋된 점수도 record 가 임시 키에 같이 쓴다
+    Long started =
+        redisService.execute(
+            REBUILD_START_SCRIPT,
+            List.of(rebuildingKey(exam), rebuildKey(exam)),
+            token,
+            String.valueOf(REBUILD_TTL.toMillis()));
+    if (started == null || started == 0) {
+      throw new LeaderboardRebuildInProgressException(exam);
+    }
+
+    boolean streamed = false;
+    try {
+      streamInto(exam, rebuildKey(exam));
+      streamed = true;
+    } finally {
+      if (!streamed) {
+        discard(exam, token);
+      }
+    }
+
+    // 임시 키에 다시 쌓은 뒤 RENAME 으로 한 번에 교체한다
+    Long count = finish(exam, token, true);
+    if (count == null || count < 0) {
+      throw new IllegalStateException("leaderboard rebuild expired before finishing. exam=" + exam);
+    }
+    return count;
+  }
+
+  private void streamInto(String exam, String tempKey) {
+    Map<String, Double> chunk = new HashMap<>();
+
+    // 스트리밍 중에 record 가 임시 키에 먼저 쓴 점수가 더 최신이므로 이미 있는 학생은 덮어쓰지 않는다
+    Runnable flush =
+        () -> {
+          redisService.zAddIfAbsent(tempKey, chunk);
+          redisService.expire(tempKey, REBUILD_TTL);
+          chunk.clear();
+        };
+
+    examResultQueryService.streamPassStudents(
+        exam, student -> addToChunk(chunk, student.getStudentName(), student.getAvgScore(), flush));
+    examResultQueryService.streamFailStudents(
+        exam, student -> addToChunk(chunk, student.getStudentName(), student.getAvgScore(), flush));
+    if (!chunk.isEmpty()) {
+      flush.run();
+    }
+  }
+
+  private void discard(String exam, String token) {
+    try {
+      finish(exam, token, false);
+    } catch (DataAccessException e) {
+      // 정리하지 못한 임시 키는 만료 시간이 지나면 사라진다
+      log.warn("exam leaderboard rebuild cleanup failed. exam={}", exam, e);
+    }
+  }
+
+  private Long finish(String exam, String token, boolean replace) {
+    return redisService.execute(
+        REBUILD_FINISH_SCRIPT,
+        List.of(leaderboardKey(exam), rebuildingKey(exam), rebuildKey(exam)),
+        token,
+        replace ? "1" : "0");
+  }
+
+  private static void addToChunk(
+      Map<String, Double> chunk, String studentName, Double avgScore, Runnable flush) {
+    chunk.put(studentName, avgScore);
+    if (chunk.size() == REBUILD_CHUNK_SIZE) {
+      flush.run();
+    }
+  }
+}
@@ -0,0 +1,235 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.exception.PartitionLimitException;
+import com.jyujyu.dayonetest.exception.PartitionLockTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시험 파티션을 추가/삭제/보관하는 DDL 을 실행한다. 등록 확인과 노드별 캐시는 {@link ExamPartitionService} 가 맡는다.
+ *
+ * <p>파티션 이름은 'p' + MD5(exam) 으로 V5 마이그레이션과 같다. ALTER TABLE 은 테이블 전체에 배타 메타데이터 락을 잡으므로
+ * lock_wait_timeout 을 짧게 걸어 진행 중인 트랜잭션 뒤에서 오래 기다리며 다른 쿼리까지 막지 않게 한다.
+ *
+ * <p>MySQL 은 테이블당 파티션을 {@value #MAX_PARTITIONS} 개까지만 허용하고 빈 문자열('') 파티션이 하나를 차지한다. 한도에 가까워지면 끝난 시험을
+ * 보관(archive)하거나 삭제(drop)해 자리를 비워야 하며, 한도에 닿으면 새 시험 등록은 거절된다.
+ */
+@Slf4j
+@Service
+public class ExamPartitionDdlService {
+
+  static final List<String> TABLES = List.of("student_score", "student_pass", "student_fail");
+
+  static final int MAX_PARTITIONS = 8192;
+
+  private static final String PARTITION_EXISTS_SQL =
+      "SELECT COUNT(*) FROM information_schema.PARTITIONS"
+          + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME = ?";
+
+  private static final String PARTITION_COUNT_SQL =
+      "SELECT COUNT(*) FROM information_schema.PARTITIONS"
+          + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate ddlTransaction;
+  private final long lockWaitTimeoutSeconds;
+
+  public ExamPartitionDdlService(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${score.partition.lock-wait-timeout:PT5S}") Duration lockWaitTimeout) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.ddlTransaction = new TransactionTemplate(transactionManager);
+    this.ddlTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.lockWaitTimeoutSeconds = Math.max(lockWaitTimeout.toSeconds(), 1);
+  }
+
+  public static String partitionName(String exam) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("MD5").digest(exam.getBytes(StandardCharsets.UTF_8));
+      return "p" + HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // 같은 시험을 다시 등록해 보관하더라도 이전 보관 테이블과 겹치지 않도록 보관 시각을 붙인다.
+  // MySQL 식별자는 64자까지라 MD5 는 앞 16자리만, 보관 시각은 36진수로 줄여 쓴다
+  public static String archiveTable(String table, String exam, long archivedAtSeconds) {
+    return table
+        + "_archive_"
+        + partitionName(exam).substring(1, 17)
+        + "_"
+        + Long.toString(archivedAtSeconds, 36);
+  }
+
+  /** 세 테이블의 DDL 이 모두 락을 기다리다 끝날 수 있는 최대 시간 */
+  public Duration maxDdlWait() {
+    return Duration.ofSeconds(lockWaitTimeoutSeconds * TABLES.size());
+  }
+
+  public void createPartitions(String exam) {
+    String partition = partitionName(exam);
+    withShortLockWait(
+        () -> {
+          for (String table : TABLES) {
+            if (exists(table, partition)) {
+              continue;
+            }
+            if (count(table) >= MAX_PARTITIONS) {
+              throw new PartitionLimitException(table);
+            }
+            addPartition(table, partition, exam);
+          }
+          return null;
+        });
+  }
+
+  public void dropPartitions(String exam) {
+    String partition = partitionName(exam);
+    withShortLockWait(
+        () -> {
+          TABLES.stream()
+              .filter(table -> exists(table, partition))
+              .forEach(table -> ddl("ALTER TABLE %s DROP PARTITION %s", table, partition));
+          return null;
+        });
+  }
+
+  /**
+   * 빈 보관 테이블과 파티션을 맞바꾸면 데이터 복사 없이 메타데이터만 바뀐다.
+   *
+   * <p>맞바꾼 뒤 파티션을 지우기 전까지 다른 노드가 쓴 행은 빈 파티션에 들어가 함께 지워지므로, 맞바꾸기와 지우기는 LOCK TABLES ... WRITE 안에서 이어서
+   * 실행한다. 그동안의 쓰기는 기다렸다가 파티션 없음(1526)으로 실패해 재시도된다.
+   *
+   * <p>DDL 은 테이블마다 바로 커밋되므로 중간에 실패하면 일부 테이블만 보관된다. 다시 호출하면 파티션이 남은 테이블만 이어서 처리하고, 맞바꾼 뒤 비어 있는 파티션은
+   * 보관 테이블을 새로 만들지 않고 지운다.
+   */
+  public List<String> archivePartitions(String exam, long archivedAtSeconds) {
+    String partition = partitionName(exam);
+    return withShortLockWait(
+        () -> {
+          List<String> archives = new ArrayList<>();
+          for (String table : TABLES) {
+            if (!exists(table, partition) || dropIfEmpty(table, partition)) {
+              continue;
+            }
+            String archive = archiveTable(table, exam, archivedAtSeconds);
+            exchange(table, partition, archive);
+            archives.add(archive);
+          }
+          return archives;
+        });
+  }
+
+  private boolean dropIfEmpty(String table, String partition) {
+    ddl("LOCK TABLES %s WRITE", table);
+    try {
+      if (!isEmpty(table, partition)) {
+        return false;
+      }
+      ddl("ALTER TABLE %s DROP PARTITION %s", table, partition);
+      return true;
+    } finally {
+      jdbcTemplate.execute("UNLOCK TABLES");
+    }
+  }
+
+  private void exchange(String table, String partition, String archive) {
+    ddl("CREATE TABLE %s LIKE %s", archive, table);
+    boolean exchanged = false;
+    try {
+      ddl("ALTER TABLE %s REMOVE PARTITIONING", archive);
+      ddl("LOCK TABLES %s WRITE, %s WRITE", table, archive);
+      try {
+        ddl("ALTER TABLE %s EXCHANGE PARTITION %s WITH TABLE %s", table, partition, archive);
+        exchanged = true;
+        ddl("ALTER TABLE %s DROP PARTITION %s", table, partition);
+      } finally {
+        jdbcTemplate.execute("UNLOCK TABLES");
+      }
+    } catch (DataAccessException e) {
+      // 맞바꾸기 전에 실패했으면 보관 테이블은 비어 있으므로 남기지 않는다
+      if (!exchanged) {
+        ddl("DROP TABLE IF EXISTS %s", archive);
+      }
+      throw e;
+    }
+  }
+
+  // DDL 은 암묵적으로 커밋되므로 호출한 쪽의 트랜잭션을 멈춰 두고 별도 커넥션에서 실행한다.
+  // 세션 변수는 풀에 돌아간 커넥션에 남으므로 끝나면 기본값으로 되돌린다
+  private <T> T withShortLockWait(Supplier<T> ddlWork) {
+    try {
+      return ddlTransaction.execute(
+          status -> {
+            jdbcTemplate.execute("SET SESSION lock_wait_timeout = " + lockWaitTimeoutSeconds);
+            try {
+              return ddlWork.get();
+            } finally {
+              jdbcTemplate.execute("SET SESSION lock_wait_timeout = DEFAULT");
+            }
+          });
+    } catch (PessimisticLockingFailureException e) {
+      throw new PartitionLockTimeoutException(e);
+    }
+  }
+
+  private boolean exists(String table, String partition) {
+    Integer count =
+        jdbcTemplate.queryForObject(PARTITION_EXISTS_SQL, Integer.class, table, partition);
+    return count != null && count > 0;
+  }
+
+  private int count(String table) {
+    Integer count = jdbcTemplate.queryForObject(PARTITION_COUNT_SQL, Integer.class, table);
+    return count == null ? 0 : count;
+  }
+
+  private boolean isEmpty(String table, String partition) {
+    return jdbcTemplate
+        .queryForList(
+            String.format("SELECT 1 FROM %s PARTITION (%s) LIMIT 1", table, partition),
+            Integer.class)
+        .isEmpty();
+  }
+
+  private void addPartition(String table, String partition, String exam) {
+    try {
+      ddl(
+          "ALTER TABLE %s ADD PARTITION (PARTITION %s VALUES IN (%s))",
+          table, partition, literal(exam));
+    } catch (DataAccessException e) {
+      // 다른 노드가 먼저 추가했으면 무시한다
+      if (!exists(table, partition)) {
+        throw e;
+      }
+      log.info("partition already added. table={} exam={}", table, exam);
+    }
+  }
+
+  private void ddl(String format, Object... args) {
+    jdbcTemplate.execute(String.format(format, args));
+  }
+
+  // DDL 의 VALUES IN 에는 바인드 변수를 쓸 수 없어 문자열 리터럴로 이스케이프한다
+  private static String literal(String value) {
+    return "'" + value.replace("\\", "\\\\").replace("'", "''") + "'";
+  }
+}
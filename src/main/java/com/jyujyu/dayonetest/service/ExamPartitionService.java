@@ -0,0 +1,158 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.exception.ExamPartitionChangedException;
+import com.jyujyu.dayonetest.exception.UnknownExamException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 점수/결과 테이블은 LIST COLUMNS(exam) 로 시험마다 파티션을 나눈다 (V5 마이그레이션). 쓰기 전에 시험의 파티션이 있는지 확인하고, DDL 은 {@link
+ * ExamPartitionDdlService} 에 맡긴다.
+ *
+ * <p>exam 은 바이너리 콜레이션(V8)이라 파티션 값, 파티션 이름, 등록 캐시가 모두 바이트 단위로 같은 시험을 가리키고, 대소문자나 악센트만 다른 시험은 서로 다른
+ * 시험이다. 마이그레이션 당시 행이 있던 시험은 이미 파티션이 있다.
+ *
+ * <p>새 시험은 관리자 API(PUT /admin/exam/{exam})로 미리 등록할 수 있고, 등록되지 않은 시험의 첫 쓰기는 등록 DDL 을 요청 스레드 밖에서 한 번만
+ * 돌리고 끝나기를 잠시 기다린다. 그 안에 끝나지 않으면 503 으로 재시도를 알린다. score.partition.auto-register 를 끄면 관리자 등록만 허용하고
+ * 등록되지 않은 시험은 404 로 거절한다.
+ *
+ * <p>등록을 확인한 시험은 노드마다 캐시한다. 다른 노드가 파티션을 지우면 이 노드의 다음 쓰기가 1526(파티션 없음)으로 실패하고, 그때 캐시에서 빼고 한 번 더
+ * 확인한다.
+ */
+@Slf4j
+@Service
+public class ExamPartitionService {
+
+  // ER_NO_PARTITION_FOR_GIVEN_VALUE
+  static final int NO_PARTITION_ERROR_CODE = 1526;
+
+  private static final String EXAM_PARTITION_COUNT_SQL =
+      "SELECT COUNT(*) FROM information_schema.PARTITIONS"
+          + " WHERE TABLE_SCHEMA = DATABASE() AND PARTITION_NAME = ?"
+          + " AND TABLE_NAME IN ('student_score', 'student_pass', 'student_fail')";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ExamPartitionDdlService examPartitionDdlService;
+  private final boolean autoRegister;
+  private final Set<String> knownExams = ConcurrentHashMap.newKeySet();
+  private final Map<String, CompletableFuture<Void>> registrations = new ConcurrentHashMap<>();
+  private final Executor registrationExecutor = new SimpleAsyncTaskExecutor("exam-registration-");
+
+  public ExamPartitionService(
+      JdbcTemplate jdbcTemplate,
+      ExamPartitionDdlService examPartitionDdlService,
+      @Value("${score.partition.auto-register:true}") boolean autoRegister) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.examPartitionDdlService = examPartitionDdlService;
+    this.autoRegister = autoRegister;
+  }
+
+  /**
+   * 쓰기 전에 시험이 등록되어 있는지 확인하고, 없으면 자동 등록을 기다린다. 등록된 시험은 DDL 없이 조회만 한다.
+   *
+   * <p>등록 DDL 은 세 테이블의 배타 메타데이터 락이 필요하므로 트랜잭션에서 세 테이블을 건드리기 전에 호출한다.
+   */
+  public void requirePartition(String exam) {
+    if (isRegistered(exam)) {
+      return;
+    }
+    if (!autoRegister) {
+      throw new UnknownExamException(exam);
+    }
+    Duration wait = examPartitionDdlService.maxDdlWait();
+    try {
+      register(exam).get(wait.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException cause
+          ? cause
+          : new IllegalStateException(e.getCause());
+    } catch (TimeoutException e) {
+      throw new ExamPartitionChangedException(exam, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExamPartitionChangedException(exam, e);
+    }
+  }
+
+  /**
+   * 쓰기가 파티션이 없어 실패했으면 캐시에서 빼고 한 번 더 확인한다. 자동 등록이 꺼져 있고 정말 없는 시험이면 {@link UnknownExamException}, 아니면
+   * 재시도할 수 있도록 {@link ExamPartitionChangedException} 을 돌려준다.
+   *
+   * <p>실패한 쓰기의 트랜잭션이 메타데이터 락을 쥐고 있어 여기서 등록을 기다리면 등록 DDL 과 서로 막힌다. 자동 등록은 시작만 해 둔다.
+   */
+  public RuntimeException translateWriteFailure(String exam, DataAccessException e) {
+    if (!(e.getMostSpecificCause() instanceof SQLException sqlException)
+        || sqlException.getErrorCode() != NO_PARTITION_ERROR_CODE) {
+      return e;
+    }
+
+    knownExams.remove(exam);
+    if (!isRegistered(exam)) {
+      if (!autoRegister) {
+        return new UnknownExamException(exam);
+      }
+      register(exam);
+    }
+    return new ExamPartitionChangedException(exam, e);
+  }
+
+  public void createPartition(String exam) {
+    examPartitionDdlService.createPartitions(exam);
+    knownExams.add(exam);
+  }
+
+  public void dropPartition(String exam) {
+    knownExams.remove(exam);
+    examPartitionDdlService.dropPartitions(exam);
+  }
+
+  public List<String> archivePartition(String exam) {
+    knownExams.remove(exam);
+    return examPartitionDdlService.archivePartitions(exam, System.currentTimeMillis() / 1000);
+  }
+
+  private boolean isRegistered(String exam) {
+    if (knownExams.contains(exam)) {
+      return true;
+    }
+    Integer count =
+        jdbcTemplate.queryForObject(
+            EXAM_PARTITION_COUNT_SQL, Integer.class, ExamPartitionDdlService.partitionName(exam));
+    if (count == null || count < ExamPartitionDdlService.TABLES.size()) {
+      return false;
+    }
+    knownExams.add(exam);
+    return true;
+  }
+
+  // 같은 시험을 동시에 처음 쓰는 요청은 먼저 시작한 등록을 함께 기다린다
+  private CompletableFuture<Void> register(String exam) {
+    CompletableFuture<Void> registration =
+        registrations.computeIfAbsent(
+            exam,
+            key -> CompletableFuture.runAsync(() -> createPartition(key), registrationExecutor));
+    registration.whenComplete(
+        (result, e) -> {
+          registrations.remove(exam, registration);
+          if (e != null) {
+            log.warn("exam registration failed. exam={}", exam, e);
+          }
+        });
+    return registration;
+  }
+}
@@ -0,0 +1,115 @@
+package com.jyujyu.dayonetest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamResultCacheService {
+
+  private final NearCacheService nearCacheService;
+  private final ObjectMapper objectMapper;
+  private final Map<String, CompletableFuture<List<?>>> loads = new ConcurrentHashMap<>();
+
+  @Value("${score.cache.ttl:PT1M}")
+  private Duration ttl = Duration.ofMinutes(1);
+
+  public static String passKey(String exam) {
+    return "exam:" + exam + ":pass";
+  }
+
+  public static String failKey(String exam) {
+    return "exam:" + exam + ":fail";
+  }
+
+  public <T> List<T> getOrLoad(String key, Class<T> type, Supplier<List<T>> loader) {
+    JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+
+    try {
+      String cached = nearCacheService.get(key);
+      if (cached != null) {
+        return objectMapper.readValue(cached, listType);
+      }
+    } catch (DataAccessException | JsonProcessingException e) {
+      // 캐시를 읽지 못하면 DB 에서 다시 읽어온다
+    }
+
+    // 같은 키를 동시에 놓친 요청은 먼저 시작한 조회 결과를 함께 쓴다
+    var load = new CompletableFuture<List<?>>();
+    CompletableFuture<List<?>> running = loads.putIfAbsent(key, load);
+    if (running != null) {
+      return join(running);
+    }
+
+    try {
+      List<T> loaded = load(key, loader);
+      load.complete(loaded);
+      return loaded;
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+      throw e;
+    } finally {
+      loads.remove(key, load);
+    }
+  }
+
+  private <T> List<T> load(String key, Supplier<List<T>> loader) {
+    String generation = null;
+    try {
+      generation = nearCacheService.generation(key);
+    } catch (DataAccessException e) {
+      // 세대를 모르면 DB 결과만 돌려주고 캐시에는 넣지 않는다
+    }
+
+    List<T> loaded = loader.get();
+
+    if (generation != null) {
+      try {
+        nearCacheService.setIfGeneration(
+            key, objectMapper.writeValueAsString(loaded), ttl, generation);
+      } catch (DataAccessException | JsonProcessingException e) {
+        // 캐시 저장 실패는 조회 결과에 영향을 주지 않는다
+      }
+    }
+    return loaded;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> join(CompletableFuture<List<?>> load) {
+    try {
+      return (List<T>) load.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  public void evict(String... keys) {
+    // 삭제 이후의 조회가 삭제 전에 시작한 조회 결과를 받지 않도록 진행 중인 조회와 끊는다
+    for (String key : keys) {
+      loads.remove(key);
+    }
+    try {
+      nearCacheService.delete(List.of(keys));
+    } catch (DataAccessException e) {
+      // 이미 커밋된 저장을 실패로 돌리지 않는다. 남은 캐시는 ttl 이 지나면 만료된다
+      log.warn("exam result cache evict failed. keys={}", List.of(keys), e);
+    }
+  }
+}
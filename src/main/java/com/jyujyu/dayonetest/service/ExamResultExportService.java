@@ -0,0 +1,116 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamExportResponse;
+import com.jyujyu.dayonetest.controller.response.ExamFailStudentResponse;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import com.jyujyu.dayonetest.model.StudentScore;
+import com.jyujyu.dayonetest.repository.StudentFailRepository;
+import com.jyujyu.dayonetest.repository.StudentPassRepository;
+import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import com.jyujyu.dayonetest.support.CsvWriter;
+import com.jyujyu.dayonetest.support.S3MultipartOutputStream;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ExamResultExportService {
+
+  public static final String[] SCORE_HEADER = {
+    "student_name", "kor_score", "english_score", "math_score"
+  };
+  public static final String[] RESULT_HEADER = {"student_name", "avg_score"};
+
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private final StudentScoreRepository studentScoreRepository;
+  private final StudentPassRepository studentPassRepository;
+  private final StudentFailRepository studentFailRepository;
+  private final S3Service s3Service;
+  private final EntityManager entityManager;
+
+  public static String objectKey(String prefix, String exam, String table) {
+    String base = prefix == null || prefix.isBlank() ? "" : prefix.replaceAll("/+$", "") + "/";
+    return base + exam + "/" + table + ".csv.gz";
+  }
+
+  @Transactional(readOnly = true)
+  public ExamExportResponse export(String exam, String bucket, String prefix) {
+    Map<String, Long> rowCounts = new LinkedHashMap<>();
+
+    rowCounts.put(
+        "student_score",
+        exportCsv(
+            bucket,
+            objectKey(prefix, exam, "student_score"),
+            SCORE_HEADER,
+            csv -> {
+              try (Stream<StudentScore> scores =
+                  studentScoreRepository.streamByExamOrderById(exam)) {
+                scores.forEach(
+                    score -> {
+                      csv.writeRow(
+                          score.getStudentName(),
+                          score.getKorScore(),
+                          score.getEnglishScore(),
+                          score.getMathScore());
+                      entityManager.detach(score);
+                    });
+              }
+            }));
+    rowCounts.put(
+        "student_pass",
+        exportCsv(
+            bucket,
+            objectKey(prefix, exam, "student_pass"),
+            RESULT_HEADER,
+            csv -> {
+              try (Stream<ExamPassStudentResponse> students =
+                  studentPassRepository.streamByExamOrderById(exam)) {
+                students.forEach(
+                    student -> csv.writeRow(student.getStudentName(), student.getAvgScore()));
+              }
+            }));
+    rowCounts.put(
+        "student_fail",
+        exportCsv(
+            bucket,
+            objectKey(prefix, exam, "student_fail"),
+            RESULT_HEADER,
+            csv -> {
+              try (Stream<ExamFailStudentResponse> students =
+                  studentFailRepository.streamByExamOrderById(exam)) {
+                students.forEach(
+                    student -> csv.writeRow(student.getStudentName(), student.getAvgScore()));
+              }
+            }));
+
+    return new ExamExportResponse(bucket, rowCounts);
+  }
+
+  private long exportCsv(String bucket, String key, String[] header, Consumer<CsvWriter> rows) {
+    S3MultipartOutputStream out = s3Service.openMultipartOutputStream(bucket, key);
+    try {
+      var csv = new CsvWriter(new GZIPOutputStream(out, GZIP_BUFFER_SIZE));
+      csv.writeHeader(header);
+      rows.accept(csv);
+      csv.close();
+      return csv.getRowCount();
+    } catch (IOException e) {
+      out.abort();
+      throw new UncheckedIOException(e);
+    } catch (RuntimeException e) {
+      out.abort();
+      throw e;
+    }
+  }
+}
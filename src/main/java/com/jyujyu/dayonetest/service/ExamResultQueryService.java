@@ -0,0 +1,71 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamFailStudentPageResponse;
+import com.jyujyu.dayonetest.controller.response.ExamFailStudentResponse;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentPageResponse;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import com.jyujyu.dayonetest.model.StudentFail;
+import com.jyujyu.dayonetest.model.StudentPass;
+import com.jyujyu.dayonetest.repository.StudentFailRepository;
+import com.jyujyu.dayonetest.repository.StudentPassRepository;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ExamResultQueryService {
+
+  private static final int MAX_PAGE_SIZE = 1000;
+
+  private final StudentPassRepository studentPassRepository;
+  private final StudentFailRepository studentFailRepository;
+
+  public ExamPassStudentPageResponse getPassStudentsPage(String exam, long cursor, int size) {
+    int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    List<StudentPass> studentPasses =
+        studentPassRepository.findByExamAndIdGreaterThanOrderByIdAsc(exam, cursor, Limit.of(limit));
+
+    var students =
+        studentPasses.stream()
+            .map(pass -> new ExamPassStudentResponse(pass.getStudentName(), pass.getAvgScore()))
+            .toList();
+    Long nextCursor = studentPasses.size() < limit ? null : studentPasses.get(limit - 1).getId();
+
+    return new ExamPassStudentPageResponse(students, nextCursor);
+  }
+
+  public ExamFailStudentPageResponse getFailStudentsPage(String exam, long cursor, int size) {
+    int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    List<StudentFail> studentFails =
+        studentFailRepository.findByExamAndIdGreaterThanOrderByIdAsc(exam, cursor, Limit.of(limit));
+
+    var students =
+        studentFails.stream()
+            .map(fail -> new ExamFailStudentResponse(fail.getStudentName(), fail.getAvgScore()))
+            .toList();
+    Long nextCursor = studentFails.size() < limit ? null : studentFails.get(limit - 1).getId();
+
+    return new ExamFailStudentPageResponse(students, nextCursor);
+  }
+
+  @Transactional(readOnly = true)
+  public void streamPassStudents(String exam, Consumer<ExamPassStudentResponse> consumer) {
+    try (Stream<ExamPassStudentResponse> students =
+        studentPassRepository.streamByExamOrderById(exam)) {
+      students.forEach(consumer);
+    }
+  }
+
+  @Transactional(readOnly = true)
+  public void streamFailStudents(String exam, Consumer<ExamFailStudentResponse> consumer) {
+    try (Stream<ExamFailStudentResponse> students =
+        studentFailRepository.streamByExamOrderById(exam)) {
+      students.forEach(consumer);
+    }
+  }
+}
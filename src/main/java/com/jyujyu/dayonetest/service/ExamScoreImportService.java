@@ -0,0 +1,142 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
+import com.jyujyu.dayonetest.controller.response.ExamImportResponse;
+import com.jyujyu.dayonetest.exception.ExamImportException;
+import com.jyujyu.dayonetest.support.CsvReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamScoreImportService {
+
+  private static final int BATCH_SIZE = 1000;
+  private static final long PROGRESS_INTERVAL = 100_000;
+
+  private final StudentScoreService studentScoreService;
+  private final S3Service s3Service;
+
+  /**
+   * S3 의 CSV 를 1000건 단위로 나눠 저장한다. 배치마다 따로 커밋된다.
+   *
+   * <p>잘못된 행 때문에 앞부분만 저장되지 않도록 저장하기 전에 파일 전체를 한 번 읽어 검증한다. 저장 도중 실패하면 커밋된 행 수를 {@link
+   * ExamImportException} 으로 알려주고, 그 값을 startRow 로 다시 호출하면 이어서 저장한다.
+   */
+  public ExamImportResponse importScores(String exam, String bucket, String key, long startRow) {
+    long totalRows = read(bucket, key, Long.MAX_VALUE, (batch, offset) -> {});
+    if (startRow < 0 || startRow > totalRows) {
+      throw new IllegalArgumentException("startRow out of range: " + startRow);
+    }
+
+    long startNanos = System.nanoTime();
+    read(
+        bucket,
+        key,
+        startRow,
+        (batch, offset) -> {
+          try {
+            studentScoreService.saveScores(exam, batch);
+          } catch (RuntimeException e) {
+            log.error("score import failed. exam={} committedRows={}", exam, offset, e);
+            throw new ExamImportException(exam, offset, e);
+          }
+
+          long committedRows = offset + batch.size();
+          if (committedRows % PROGRESS_INTERVAL == 0) {
+            log.info(
+                "score import progress. exam={} committedRows={} rowsPerSecond={}",
+                exam,
+                committedRows,
+                String.format(
+                    "%.1f",
+                    rowsPerSecond(committedRows - startRow, System.nanoTime() - startNanos)));
+          }
+        });
+
+    long rows = totalRows - startRow;
+    long elapsedNanos = System.nanoTime() - startNanos;
+    double rowsPerSecond = rowsPerSecond(rows, elapsedNanos);
+    log.info(
+        "score import finished. exam={} source=s3://{}/{} startRow={} rows={} rowsPerSecond={}",
+        exam,
+        bucket,
+        key,
+        startRow,
+        rows,
+        String.format("%.1f", rowsPerSecond));
+
+    return new ExamImportResponse(rows, totalRows, elapsedNanos / 1_000_000, rowsPerSecond);
+  }
+
+  // 데이터 행을 모두 파싱해 검증하고, startRow 부터는 배치와 그 앞의 데이터 행 수를 넘긴다. 전체 데이터 행 수를 돌려준다
+  private long read(
+      String bucket,
+      String key,
+      long startRow,
+      ObjLongConsumer<List<SaveExamScoreRequest>> handler) {
+    long rowIndex = 0;
+    try (InputStream in = open(bucket, key);
+        var csv = new CsvReader(in)) {
+      List<String> header = csv.readRow();
+      if (header == null || !header.equals(Arrays.asList(ExamResultExportService.SCORE_HEADER))) {
+        throw new IllegalArgumentException("unexpected csv header: " + header);
+      }
+
+      List<SaveExamScoreRequest> batch = new ArrayList<>(BATCH_SIZE);
+      for (List<String> row = csv.readRow(); row != null; row = csv.readRow(), rowIndex++) {
+        SaveExamScoreRequest request = toRequest(row, csv.getLineNumber());
+        if (rowIndex < startRow) {
+          continue;
+        }
+        batch.add(request);
+
+        if (batch.size() == BATCH_SIZE) {
+          handler.accept(batch, rowIndex + 1 - batch.size());
+          batch = new ArrayList<>(BATCH_SIZE);
+        }
+      }
+
+      if (!batch.isEmpty()) {
+        handler.accept(batch, rowIndex - batch.size());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return rowIndex;
+  }
+
+  private InputStream open(String bucket, String key) throws IOException {
+    InputStream in = s3Service.openStream(bucket, key);
+    return key.endsWith(".gz") ? new GZIPInputStream(in, 64 * 1024) : in;
+  }
+
+  private static SaveExamScoreRequest toRequest(List<String> row, long lineNumber) {
+    if (row.size() != ExamResultExportService.SCORE_HEADER.length) {
+      throw new IllegalArgumentException("invalid csv row at line " + lineNumber);
+    }
+    try {
+      return new SaveExamScoreRequest(
+          row.get(0),
+          Integer.parseInt(row.get(1).trim()),
+          Integer.parseInt(row.get(2).trim()),
+          Integer.parseInt(row.get(3).trim()));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("invalid score at line " + lineNumber, e);
+    }
+  }
+
+  private static double rowsPerSecond(long rows, long elapsedNanos) {
+    return elapsedNanos == 0 ? 0 : rows / (elapsedNanos / 1_000_000_000.0);
+  }
+}
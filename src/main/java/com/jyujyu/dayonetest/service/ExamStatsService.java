@@ -0,0 +1,161 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamDistributionResponse;
+import com.jyujyu.dayonetest.controller.response.ExamStatsResponse;
+import com.jyujyu.dayonetest.controller.response.SubjectDistributionResponse;
+import com.jyujyu.dayonetest.controller.response.SubjectStatsResponse;
+import com.jyujyu.dayonetest.model.ExamScoreSummary;
+import com.jyujyu.dayonetest.model.ScoreCount;
+import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import com.jyujyu.dayonetest.support.ScoreAggregate;
+import com.jyujyu.dayonetest.support.ScoreHistogram;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamStatsService {
+
+  private static final RedisScript<Long> MERGE_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/exam-stats-merge.lua"), Long.class);
+
+  private final RedisService redisService;
+  private final StudentScoreRepository studentScoreRepository;
+
+  public static String statsKey(String exam) {
+    return "exam:" + exam + ":stats";
+  }
+
+  public static String histogramKey(String exam) {
+    return "exam:" + exam + ":histogram";
+  }
+
+  /** 새 점수는 더하고 재제출로 덮어쓴 점수는 뺀 증분을 스크립트 한 번으로 반영한다. 순서와 상관없이 같은 결과가 되므로 커밋 이후 어느 순서로 와도 된다. */
+  public void record(String exam, ScoreAggregate aggregate) {
+    if (aggregate.isEmpty()) {
+      return;
+    }
+    try {
+      redisService.execute(MERGE_SCRIPT, keys(exam), aggregate.toScriptArgs(false));
+    } catch (DataAccessException e) {
+      // 통계 갱신 실패는 점수 저장에 영향을 주지 않는다. backfill 로 다시 맞춘다
+      log.warn("exam stats update failed. exam={}", exam, e);
+    }
+  }
+
+  /**
+   * DB 기준으로 통계를 다시 집계해 덮어쓴다. 재제출로 넓어진 채 남은 최솟값/최댓값을 바로잡을 때 관리자 API 로 실행한다.
+   *
+   * <p>집계하는 동안 커밋된 저장의 증분이 집계 뒤에 도착하면 두 번 반영될 수 있으므로 쓰기가 뜸할 때 돌린다.
+   */
+  public long backfill(String exam) {
+    ExamScoreSummary summary = studentScoreRepository.summarizeByExam(exam);
+    if (summary.getCount() == 0) {
+      redisService.delete(keys(exam));
+      return 0;
+    }
+
+    var aggregate = new ScoreAggregate();
+    aggregate.setCounts(summary.getCount(), summary.getPassCount());
+    aggregate.set(
+        0,
+        summary.getKorSum(),
+        summary.getKorSquareSum(),
+        summary.getKorMin(),
+        summary.getKorMax());
+    aggregate.set(
+        1,
+        summary.getEnglishSum(),
+        summary.getEnglishSquareSum(),
+        summary.getEnglishMin(),
+        summary.getEnglishMax());
+    aggregate.set(
+        2,
+        summary.getMathSum(),
+        summary.getMathSquareSum(),
+        summary.getMathMin(),
+        summary.getMathMax());
+    aggregate.set(
+        3,
+        summary.getTotalSum(),
+        summary.getTotalSquareSum(),
+        summary.getTotalMin(),
+        summary.getTotalMax());
+
+    addCounts(aggregate.getHistogram(0), studentScoreRepository.countByKorScore(exam));
+    addCounts(aggregate.getHistogram(1), studentScoreRepository.countByEnglishScore(exam));
+    addCounts(aggregate.getHistogram(2), studentScoreRepository.countByMathScore(exam));
+    addCounts(aggregate.getHistogram(3), studentScoreRepository.countByTotalScore(exam));
+
+    redisService.execute(MERGE_SCRIPT, keys(exam), aggregate.toScriptArgs(true));
+    return summary.getCount();
+  }
+
+  public ExamStatsResponse getStats(String exam) {
+    Map<String, String> hash = redisService.hashGetAll(statsKey(exam));
+    long count = Long.parseLong(hash.getOrDefault("count", "0"));
+    long passCount = Long.parseLong(hash.getOrDefault("pass", "0"));
+
+    Map<String, SubjectStatsResponse> subjects = new LinkedHashMap<>();
+    if (count > 0) {
+      for (String subject : ScoreAggregate.SUBJECTS) {
+        double mean = (double) Long.parseLong(hash.get(subject + ":sum")) / count;
+        double variance = (double) Long.parseLong(hash.get(subject + ":sq")) / count - mean * mean;
+        subjects.put(
+            subject,
+            new SubjectStatsResponse(
+                mean,
+                Math.sqrt(Math.max(variance, 0)),
+                Long.parseLong(hash.get(subject + ":min")),
+                Long.parseLong(hash.get(subject + ":max"))));
+      }
+    }
+
+    return new ExamStatsResponse(
+        exam, count, passCount, count == 0 ? 0 : (double) passCount / count, subjects);
+  }
+
+  public ExamDistributionResponse getDistribution(String exam) {
+    Map<String, String> hash = redisService.hashGetAll(histogramKey(exam));
+
+    Map<String, SubjectDistributionResponse> subjects = new LinkedHashMap<>();
+    for (int i = 0; i < ScoreAggregate.SUBJECTS.size(); i++) {
+      String subject = ScoreAggregate.SUBJECTS.get(i);
+      var histogram = new ScoreHistogram(ScoreAggregate.MAX_SCORES[i]);
+      for (int score = 0; score <= histogram.getMaxScore(); score++) {
+        String count = hash.get(subject + ":" + score);
+        if (count != null) {
+          histogram.add(score, Long.parseLong(count));
+        }
+      }
+
+      if (histogram.getTotal() > 0) {
+        subjects.put(
+            subject,
+            new SubjectDistributionResponse(
+                histogram.getTotal(),
+                histogram.quantile(0.5),
+                histogram.quantile(0.9),
+                histogram.toList()));
+      }
+    }
+
+    return new ExamDistributionResponse(exam, subjects);
+  }
+
+  private static List<String> keys(String exam) {
+    return List.of(statsKey(exam), histogramKey(exam));
+  }
+
+  private static void addCounts(ScoreHistogram histogram, List<ScoreCount> counts) {
+    counts.forEach(count -> histogram.add(count.getScore(), count.getCount()));
+  }
+}
@@ -1,11 +1,18 @@
 package com.jyujyu.dayonetest.service;
 
+import io.micrometer.core.annotation.Timed;
+import java.util.List;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "kafka.consumer.service", histogram = true)
 public class KafkaConsumerService {
 
   public void process(String message) {
     System.out.println("processing . . . " + message);
   }
+
+  public void processBatch(List<String> messages) {
+    messages.forEach(this::process);
+  }
 }
@@ -1,16 +1,76 @@
 package com.jyujyu.dayonetest.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
+@Timed(value = "kafka.producer.service", histogram = true)
 public class KafkaProducerService {
 
   private final KafkaTemplate<String, String> kafkaTemplate;
+  private final Counter deliveredCounter;
+  private final Counter failedCounter;
+  private final Timer deliveryTimer;
 
-  public void send(String topic, String message) {
-    kafkaTemplate.send(topic, message);
+  public KafkaProducerService(
+      KafkaTemplate<String, String> kafkaTemplate, MeterRegistry meterRegistry) {
+    this.kafkaTemplate = kafkaTemplate;
+    this.deliveredCounter = meterRegistry.counter("kafka.producer.sends", "result", "delivered");
+    this.failedCounter = meterRegistry.counter("kafka.producer.sends", "result", "failed");
+    this.deliveryTimer =
+        Timer.builder("kafka.producer.delivery")
+            .description("send 호출부터 브로커 ack 까지의 지연 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+  }
+
+  public CompletableFuture<SendResult<String, String>> send(String topic, String message) {
+    return send(topic, null, message);
+  }
+
+  public CompletableFuture<SendResult<String, String>> send(
+      String topic, String key, String message) {
+    long startNanos = System.nanoTime();
+
+    return kafkaTemplate
+        .send(topic, key, message)
+        .whenComplete((result, exception) -> record(topic, startNanos, exception));
+  }
+
+  public long deliveredCount() {
+    return (long) deliveredCounter.count();
+  }
+
+  public long failedCount() {
+    return (long) failedCounter.count();
+  }
+
+  public Duration averageLatency() {
+    return Duration.ofNanos((long) deliveryTimer.mean(TimeUnit.NANOSECONDS));
+  }
+
+  public Duration maxLatency() {
+    return Duration.ofNanos((long) deliveryTimer.max(TimeUnit.NANOSECONDS));
+  }
+
+  private void record(String topic, long startNanos, Throwable exception) {
+    if (exception != null) {
+      failedCounter.increment();
+      log.warn("kafka send failed. topic={}", topic, exception);
+      return;
+    }
+
+    deliveredCounter.increment();
+    deliveryTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
   }
 }
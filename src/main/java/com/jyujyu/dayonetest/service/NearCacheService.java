@@ -0,0 +1,147 @@
+package com.jyujyu.dayonetest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+@Service
+public class NearCacheService {
+
+  public static final String INVALIDATION_CHANNEL = "near-cache:invalidation";
+
+  private static final String SEPARATOR = "|";
+
+  private static final RedisScript<Long> SET_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/near-cache-set.lua"), Long.class);
+
+  private static final RedisScript<Long> BUMP_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/near-cache-bump.lua"), Long.class);
+
+  // 세대 키는 캐시 값보다 오래 남아야 읽기 도중의 삭제를 알아챌 수 있다
+  private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+  private final RedisService redisService;
+  private final Cache<String, String> localCache;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Counter remoteHits;
+  private final Counter remoteMisses;
+
+  public NearCacheService(
+      RedisService redisService,
+      MeterRegistry meterRegistry,
+      @Value("${score.cache.near.max-bytes:64MB}") DataSize maxBytes,
+      @Value("${score.cache.near.ttl:PT5S}") Duration ttl) {
+    this.redisService = redisService;
+    this.localCache =
+        CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher(NearCacheService::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<String, String>build(),
+            "near-cache");
+    this.remoteHits = meterRegistry.counter("near.cache.remote", "result", "hit");
+    this.remoteMisses = meterRegistry.counter("near.cache.remote", "result", "miss");
+  }
+
+  public String get(String key) {
+    String localValue = localCache.getIfPresent(key);
+    if (localValue != null) {
+      return localValue;
+    }
+
+    String remoteValue = redisService.get(key);
+    if (remoteValue == null) {
+      remoteMisses.increment();
+      return null;
+    }
+
+    remoteHits.increment();
+    localCache.put(key, remoteValue);
+    return remoteValue;
+  }
+
+  public void set(String key, String value, Duration ttl) {
+    redisService.set(key, value, ttl);
+    localCache.put(key, value);
+    redisService.publish(INVALIDATION_CHANNEL, nodeId + SEPARATOR + key);
+  }
+
+  public static String generationKey(String key) {
+    return key + ":gen";
+  }
+
+  /** DB 에서 읽기 전에 불러 두고, 읽은 값을 {@link #setIfGeneration} 으로 저장할 때 넘긴다. */
+  public String generation(String key) {
+    String generation = redisService.get(generationKey(key));
+    return generation == null ? "" : generation;
+  }
+
+  /** 그 사이 {@link #delete} 가 없었을 때만 저장한다. 저장했으면 true. */
+  public boolean setIfGeneration(String key, String value, Duration ttl, String generation) {
+    Long stored =
+        redisService.execute(
+            SET_SCRIPT,
+            List.of(key, generationKey(key)),
+            value,
+            String.valueOf(ttl.toMillis()),
+            generation);
+    if (stored == null || stored == 0) {
+      return false;
+    }
+    localCache.put(key, value);
+    redisService.publish(INVALIDATION_CHANNEL, nodeId + SEPARATOR + key);
+    return true;
+  }
+
+  // 세대를 먼저 올리고 지운다. 그 전에 읽기 시작한 조회는 세대가 달라 값을 되살리지 못한다
+  public void delete(List<String> keys) {
+    localCache.invalidateAll(keys);
+    redisService.execute(
+        BUMP_SCRIPT,
+        keys.stream().map(NearCacheService::generationKey).toList(),
+        String.valueOf(GENERATION_TTL.toMillis()));
+    redisService.delete(keys);
+    keys.forEach(key -> redisService.publish(INVALIDATION_CHANNEL, nodeId + SEPARATOR + key));
+  }
+
+  public void onInvalidation(String message) {
+    int separatorIndex = message.indexOf(SEPARATOR);
+    if (separatorIndex < 0 || message.startsWith(nodeId + SEPARATOR)) {
+      return;
+    }
+
+    localCache.invalidate(message.substring(separatorIndex + 1));
+  }
+
+  // 값 하나가 시험 하나의 명단 전체라서 건수가 아니라 문자열 크기(UTF-16 기준 byte)로 L1 을 제한한다
+  private static int weigh(String key, String value) {
+    return (int)
+        Math.min(Integer.MAX_VALUE, (long) Character.BYTES * (key.length() + value.length()));
+  }
+
+  public CacheStats localStats() {
+    return localCache.stats();
+  }
+
+  public long remoteHitCount() {
+    return (long) remoteHits.count();
+  }
+
+  public long remoteMissCount() {
+    return (long) remoteMisses.count();
+  }
+}
@@ -1,10 +1,25 @@
 package com.jyujyu.dayonetest.service;
 
+import io.micrometer.core.annotation.Timed;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.DefaultStringRedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = "redis.service", histogram = true)
 @RequiredArgsConstructor
 public class RedisService {
 
@@ -17,4 +32,86 @@ public class RedisService {
   public void set(String key, String value) {
     redisTemplate.opsForValue().set(key, value);
   }
+
+  public void set(String key, String value, Duration ttl) {
+    redisTemplate.opsForValue().set(key, value, ttl);
+  }
+
+  public boolean setIfAbsent(String key, String value, Duration ttl) {
+    return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+  }
+
+  public void expire(String key, Duration ttl) {
+    redisTemplate.expire(key, ttl);
+  }
+
+  public void delete(List<String> keys) {
+    redisTemplate.delete(keys);
+  }
+
+  public void publish(String channel, String message) {
+    redisTemplate.convertAndSend(channel, message);
+  }
+
+  public List<String> multiGet(List<String> keys) {
+    return redisTemplate.opsForValue().multiGet(keys);
+  }
+
+  public void multiSet(Map<String, String> values) {
+    redisTemplate.opsForValue().multiSet(values);
+  }
+
+  public void multiSet(Map<String, String> values, Map<String, Duration> ttls) {
+    pipelined(
+        connection ->
+            values.forEach(
+                (key, value) -> {
+                  Duration ttl = ttls.get(key);
+                  if (ttl == null) {
+                    connection.set(key, value);
+                  } else {
+                    connection.set(key, value, Expiration.from(ttl), SetOption.upsert());
+                  }
+                }));
+  }
+
+  public void rename(String oldKey, String newKey) {
+    redisTemplate.rename(oldKey, newKey);
+  }
+
+  public void zAdd(String key, Map<String, Double> scores) {
+    Set<TypedTuple<String>> tuples = new HashSet<>(scores.size());
+    scores.forEach((member, score) -> tuples.add(TypedTuple.of(member, score)));
+    redisTemplate.opsForZSet().add(key, tuples);
+  }
+
+  public void zAddIfAbsent(String key, Map<String, Double> scores) {
+    Set<TypedTuple<String>> tuples = new HashSet<>(scores.size());
+    scores.forEach((member, score) -> tuples.add(TypedTuple.of(member, score)));
+    redisTemplate.opsForZSet().addIfAbsent(key, tuples);
+  }
+
+  public Set<TypedTuple<String>> zReverseRangeWithScores(String key, long start, long end) {
+    return redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+  }
+
+  public Map<String, String> hashGetAll(String key) {
+    return redisTemplate.<String, String>opsForHash().entries(key);
+  }
+
+  public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+    return redisTemplate.execute(script, keys, (Object[]) args);
+  }
+
+  public List<Object> pipelined(Consumer<StringRedisConnection> commands) {
+    return redisTemplate.executePipelined(
+        (RedisCallback<Object>)
+            connection -> {
+              commands.accept(
+                  connection instanceof StringRedisConnection stringRedisConnection
+                      ? stringRedisConnection
+                      : new DefaultStringRedisConnection(connection));
+              return null;
+            });
+  }
 }
@@ -1,17 +1,36 @@
 package com.jyujyu.dayonetest.service;
 
+import com.jyujyu.dayonetest.support.S3MultipartOutputStream;
+import com.jyujyu.dayonetest.support.S3MultipartSettings;
+import com.jyujyu.dayonetest.support.S3MultipartUpload;
+import io.micrometer.core.annotation.Timed;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.io.FileUtils;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Service
+@Timed(value = "s3.service", histogram = true)
 @RequiredArgsConstructor
 public class S3Service {
 
   private final S3Client s3Client;
+  private final S3MultipartSettings s3MultipartSettings;
+  private final ExecutorService s3TransferExecutor;
 
   public void putFile(String bucket, String key, File file) {
     s3Client.putObject(
@@ -22,22 +41,119 @@ public class S3Service {
         RequestBody.fromFile(file));
   }
 
+  public void putFileMultipart(String bucket, String key, File file) {
+    long partSize = s3MultipartSettings.partSize();
+    long fileSize = file.length();
+    int partCount = (int) Math.max(1, (fileSize + partSize - 1) / partSize);
+
+    var upload = S3MultipartUpload.start(s3Client, bucket, key, s3MultipartSettings.maxAttempts());
+    var permits = new Semaphore(s3MultipartSettings.concurrency());
+
+    try {
+      CompletableFuture<?>[] parts =
+          IntStream.rangeClosed(1, partCount)
+              .mapToObj(
+                  partNumber -> {
+                    long offset = (partNumber - 1) * partSize;
+                    long length = Math.min(partSize, fileSize - offset);
+                    return CompletableFuture.runAsync(
+                        () -> {
+                          permits.acquireUninterruptibly();
+                          try {
+                            upload.uploadFilePart(partNumber, file.toPath(), offset, length);
+                          } finally {
+                            permits.release();
+                          }
+                        },
+                        s3TransferExecutor);
+                  })
+              .toArray(CompletableFuture[]::new);
+
+      CompletableFuture.allOf(parts).join();
+      upload.complete();
+    } catch (RuntimeException e) {
+      upload.abort();
+      throw e;
+    }
+  }
+
+  public S3MultipartOutputStream openMultipartOutputStream(String bucket, String key) {
+    var upload = S3MultipartUpload.start(s3Client, bucket, key, s3MultipartSettings.maxAttempts());
+    return new S3MultipartOutputStream(upload, s3MultipartSettings, s3TransferExecutor);
+  }
+
+  /**
+   * 객체를 임시 파일로 내려받는다. 파일은 호출한 쪽의 소유이므로 다 쓰면 지워야 한다.
+   *
+   * <p>지우지 못하고 남은 파일도 JVM 이 끝날 때는 지워진다. 파일이 필요 없으면 {@link #openStream} 이나 {@code download(..,
+   * OutputStream)} 으로 바로 읽는다.
+   */
   public File getFile(String bucket, String key) {
-    var file = new File("build/output/getFile.txt");
+    Path target;
+    try {
+      target = Files.createTempFile("s3-", ".download");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    target.toFile().deleteOnExit();
 
-    var res =
-        s3Client.getObject(
-            req -> {
-              req.bucket(bucket);
-              req.key(key);
-            });
+    try {
+      download(bucket, key, target);
+      return target.toFile();
+    } catch (RuntimeException e) {
+      deleteQuietly(target);
+      throw e;
+    }
+  }
 
+  private static void deleteQuietly(Path path) {
     try {
-      FileUtils.writeByteArrayToFile(file, res.readAllBytes());
-    } catch (Exception e) {
-      // ignore
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      // deleteOnExit 로 JVM 종료 시 다시 지운다
+    }
+  }
+
+  public void download(String bucket, String key, Path target) {
+    try (InputStream in = openStream(bucket, key, null);
+        FileChannel channel =
+            FileChannel.open(
+                target,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+      channel.transferFrom(Channels.newChannel(in), 0, Long.MAX_VALUE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
+  }
+
+  public void download(String bucket, String key, OutputStream out) {
+    download(bucket, key, null, out);
+  }
+
+  public void download(String bucket, String key, long firstByte, long lastByte, OutputStream out) {
+    download(bucket, key, "bytes=" + firstByte + "-" + lastByte, out);
+  }
 
-    return file;
+  private void download(String bucket, String key, String range, OutputStream out) {
+    try (InputStream in = openStream(bucket, key, range)) {
+      in.transferTo(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public InputStream openStream(String bucket, String key) {
+    return openStream(bucket, key, null);
+  }
+
+  private InputStream openStream(String bucket, String key, String range) {
+    return s3Client.getObject(
+        req -> {
+          req.bucket(bucket);
+          req.key(key);
+          req.range(range);
+        });
   }
 }
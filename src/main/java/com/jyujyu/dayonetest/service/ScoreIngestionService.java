@@ -0,0 +1,131 @@
+package com.jyujyu.dayonetest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
+import com.jyujyu.dayonetest.event.ExamScoreEvent;
+import com.jyujyu.dayonetest.exception.ScorePublishException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ScoreIngestionService {
+
+  public static final String TOPIC = "exam-score";
+
+  private final StudentScoreService studentScoreService;
+  private final ExamPartitionService examPartitionService;
+  private final KafkaProducerService kafkaProducerService;
+  private final ObjectMapper objectMapper;
+  private final boolean async;
+  private final Duration sendTimeout;
+
+  public ScoreIngestionService(
+      StudentScoreService studentScoreService,
+      ExamPartitionService examPartitionService,
+      KafkaProducerService kafkaProducerService,
+      ObjectMapper objectMapper,
+      @Value("${score.ingestion.mode:sync}") String mode,
+      @Value("${score.ingestion.send-timeout:PT5S}") Duration sendTimeout) {
+    this.studentScoreService = studentScoreService;
+    this.examPartitionService = examPartitionService;
+    this.kafkaProducerService = kafkaProducerService;
+    this.objectMapper = objectMapper;
+    this.async = "async".equalsIgnoreCase(mode);
+    this.sendTimeout = sendTimeout;
+  }
+
+  public boolean submit(String exam, SaveExamScoreRequest request) {
+    if (!async) {
+      studentScoreService.saveScore(
+          exam,
+          request.getStudentName(),
+          request.getKorScore(),
+          request.getEnglishScore(),
+          request.getMathScore());
+      return false;
+    }
+
+    // 등록되지 않은 시험은 발행 전에 등록해 두어 컨슈머의 저장이 파티션 없음으로 실패하지 않게 한다
+    examPartitionService.requirePartition(exam);
+    var event =
+        new ExamScoreEvent(
+            exam,
+            request.getStudentName(),
+            request.getKorScore(),
+            request.getEnglishScore(),
+            request.getMathScore());
+    // 브로커 ack 를 받은 뒤에만 202 를 돌려준다. 발행에 실패하면 점수가 유실되지 않도록 503 으로 알린다
+    try {
+      kafkaProducerService
+          .send(TOPIC, exam, write(event))
+          .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new ScorePublishException("score event publish failed", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ScorePublishException("score event publish interrupted", e);
+    }
+    return true;
+  }
+
+  public void persist(List<String> messages) {
+    List<ExamScoreEvent> events = new ArrayList<>(messages.size());
+    for (int i = 0; i < messages.size(); i++) {
+      try {
+        events.add(read(messages.get(i)));
+      } catch (UncheckedIOException e) {
+        // 앞선 정상 레코드는 저장하고, 에러 핸들러가 실패한 레코드만 DLT 로 보낸 뒤 나머지를 다시 받게 한다
+        save(events);
+        throw new BatchListenerFailedException("unparsable score event", e, i);
+      }
+    }
+    save(events);
+  }
+
+  private void save(List<ExamScoreEvent> events) {
+    Map<String, List<SaveExamScoreRequest>> requestsByExam =
+        events.stream()
+            .collect(
+                Collectors.groupingBy(
+                    ExamScoreEvent::exam,
+                    LinkedHashMap::new,
+                    Collectors.mapping(
+                        event ->
+                            new SaveExamScoreRequest(
+                                event.studentName(),
+                                event.korScore(),
+                                event.englishScore(),
+                                event.mathScore()),
+                        Collectors.toList())));
+
+    requestsByExam.forEach(studentScoreService::saveScores);
+  }
+
+  private String write(ExamScoreEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ExamScoreEvent read(String message) {
+    try {
+      return objectMapper.readValue(message, ExamScoreEvent.class);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
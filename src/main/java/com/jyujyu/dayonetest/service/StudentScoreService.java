@@ -1,6 +1,8 @@
 package com.jyujyu.dayonetest.service;
 
-import com.jyujyu.dayonetest.MyCalculator;
+import com.jyujyu.dayonetest.BatchScoreCalculator;
+import com.jyujyu.dayonetest.ScoreCalculator;
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
 import com.jyujyu.dayonetest.controller.response.ExamFailStudentResponse;
 import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
 import com.jyujyu.dayonetest.model.StudentFail;
@@ -8,69 +10,180 @@ import com.jyujyu.dayonetest.model.StudentPass;
 import com.jyujyu.dayonetest.model.StudentScore;
 import com.jyujyu.dayonetest.repository.StudentFailRepository;
 import com.jyujyu.dayonetest.repository.StudentPassRepository;
-import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import com.jyujyu.dayonetest.support.AfterCommit;
+import com.jyujyu.dayonetest.support.ScoreAggregate;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(value = "score.service", histogram = true)
 @RequiredArgsConstructor
 public class StudentScoreService {
 
-  private final StudentScoreRepository studentScoreRepository;
+  private static final int BULK_CHUNK_SIZE = 1000;
+
+  private final ExamPartitionService examPartitionService;
+  private final StudentScoreUpsertService studentScoreUpsertService;
   private final StudentPassRepository studentPassRepository;
   private final StudentFailRepository studentFailRepository;
+  private final ExamResultCacheService examResultCacheService;
+  private final ExamStatsService examStatsService;
+  private final ExamLeaderboardService examLeaderboardService;
 
+  @Transactional
   public void saveScore(
-      String exam, String studentName, Integer korScore, Integer englishScore, Integer mathScore) {
-    StudentScore studentScore =
-        StudentScore.builder()
-            .exam(exam)
-            .studentName(studentName)
-            .korScore(korScore)
-            .englishScore(englishScore)
-            .mathScore(mathScore)
-            .build();
-
-    studentScoreRepository.save(studentScore);
-
-    MyCalculator calculator = new MyCalculator(0.0);
-    Double avgScore =
-        calculator
-            .add(korScore.doubleValue())
-            .add(englishScore.doubleValue())
-            .add(mathScore.doubleValue())
-            .divide(3.0)
-            .getResult();
-
-    if (avgScore >= 60) {
-      StudentPass studentPass =
-          StudentPass.builder().exam(exam).studentName(studentName).avgScore(avgScore).build();
-
-      studentPassRepository.save(studentPass);
+      String exam, String studentName, int korScore, int englishScore, int mathScore) {
+    examPartitionService.requirePartition(exam);
+    List<StudentScore> previousScores =
+        upsertScores(
+            exam, List.of(toStudentScore(exam, studentName, korScore, englishScore, mathScore)));
+
+    double avgScore = ScoreCalculator.average(korScore, englishScore, mathScore);
+    boolean pass = ScoreCalculator.isPass(avgScore);
+
+    if (pass) {
+      studentScoreUpsertService.upsertPasses(List.of(toStudentPass(exam, studentName, avgScore)));
     } else {
-      StudentFail studentFail =
-          StudentFail.builder().exam(exam).studentName(studentName).avgScore(avgScore).build();
+      studentScoreUpsertService.upsertFails(List.of(toStudentFail(exam, studentName, avgScore)));
+    }
+
+    // 캐시, 통계, 리더보드는 커밋된 점수만 반영해야 하므로 커밋 이후에 갱신한다
+    // 재제출이면 합격/불합격 명단을 옮겨갈 수 있어 두 명단을 모두 비운다
+    // 통계는 재제출이면 덮어쓴 이전 점수를 빼고 새 점수를 더한다
+    var aggregate = ScoreAggregate.of(korScore, englishScore, mathScore);
+    removePrevious(aggregate, previousScores);
+    AfterCommit.run(
+        () -> {
+          examResultCacheService.evict(
+              ExamResultCacheService.passKey(exam), ExamResultCacheService.failKey(exam));
+          examStatsService.record(exam, aggregate);
+          examLeaderboardService.record(exam, Map.of(studentName, avgScore));
+        });
+  }
+
+  @Transactional
+  public void saveScores(String exam, List<SaveExamScoreRequest> requests) {
+    examPartitionService.requirePartition(exam);
+    int capacity = Math.min(requests.size(), BULK_CHUNK_SIZE);
+    int[] korScores = new int[capacity];
+    int[] englishScores = new int[capacity];
+    int[] mathScores = new int[capacity];
+    double[] avgScores = new double[capacity];
+    long[] passBitmap = new long[(capacity + 63) >>> 6];
+    var aggregate = new ScoreAggregate();
+    List<Map<String, Double>> leaderboardChunks = new ArrayList<>();
 
-      studentFailRepository.save(studentFail);
+    for (int from = 0; from < requests.size(); from += BULK_CHUNK_SIZE) {
+      var chunk =
+          latestByStudent(
+              requests.subList(from, Math.min(from + BULK_CHUNK_SIZE, requests.size())));
+      int size = chunk.size();
+
+      for (int i = 0; i < size; i++) {
+        SaveExamScoreRequest request = chunk.get(i);
+        korScores[i] = request.getKorScore();
+        englishScores[i] = request.getEnglishScore();
+        mathScores[i] = request.getMathScore();
+      }
+      BatchScoreCalculator.score(korScores, englishScores, mathScores, size, avgScores, passBitmap);
+
+      List<StudentScore> studentScores = new ArrayList<>(size);
+      List<StudentPass> studentPasses = new ArrayList<>();
+      List<StudentFail> studentFails = new ArrayList<>();
+      Map<String, Double> avgScoresByStudent = new HashMap<>(size * 2);
+
+      for (int i = 0; i < size; i++) {
+        String studentName = chunk.get(i).getStudentName();
+        aggregate.add(korScores[i], englishScores[i], mathScores[i]);
+        avgScoresByStudent.put(studentName, avgScores[i]);
+        studentScores.add(
+            toStudentScore(exam, studentName, korScores[i], englishScores[i], mathScores[i]));
+
+        if (BatchScoreCalculator.isPass(passBitmap, i)) {
+          studentPasses.add(toStudentPass(exam, studentName, avgScores[i]));
+        } else {
+          studentFails.add(toStudentFail(exam, studentName, avgScores[i]));
+        }
+      }
+
+      removePrevious(aggregate, upsertScores(exam, studentScores));
+      studentScoreUpsertService.upsertPasses(studentPasses);
+      studentScoreUpsertService.upsertFails(studentFails);
+      leaderboardChunks.add(avgScoresByStudent);
     }
+
+    AfterCommit.run(
+        () -> {
+          examResultCacheService.evict(
+              ExamResultCacheService.passKey(exam), ExamResultCacheService.failKey(exam));
+          examStatsService.record(exam, aggregate);
+          leaderboardChunks.forEach(chunk -> examLeaderboardService.record(exam, chunk));
+        });
   }
 
   public List<ExamPassStudentResponse> getPassStudentsList(String exam) {
-    List<StudentPass> studentPasses = studentPassRepository.findAll();
-
-    return studentPasses.stream()
-        .filter(pass -> pass.getExam().equals(exam))
-        .map(pass -> new ExamPassStudentResponse(pass.getStudentName(), pass.getAvgScore()))
-        .toList();
+    return examResultCacheService.getOrLoad(
+        ExamResultCacheService.passKey(exam),
+        ExamPassStudentResponse.class,
+        () -> studentPassRepository.findByExam(exam));
   }
 
   public List<ExamFailStudentResponse> getFailStudentsList(String exam) {
-    List<StudentFail> studentFails = studentFailRepository.findAll();
+    return examResultCacheService.getOrLoad(
+        ExamResultCacheService.failKey(exam),
+        ExamFailStudentResponse.class,
+        () -> studentFailRepository.findByExam(exam));
+  }
+
+  // 등록을 확인한 뒤 다른 노드가 시험을 지웠으면 첫 쓰기가 파티션 없음으로 실패한다
+  private List<StudentScore> upsertScores(String exam, List<StudentScore> studentScores) {
+    try {
+      return studentScoreUpsertService.upsertScores(studentScores);
+    } catch (DataAccessException e) {
+      throw examPartitionService.translateWriteFailure(exam, e);
+    }
+  }
+
+  private static void removePrevious(ScoreAggregate aggregate, List<StudentScore> previousScores) {
+    previousScores.forEach(
+        previous ->
+            aggregate.remove(
+                previous.getKorScore(), previous.getEnglishScore(), previous.getMathScore()));
+  }
+
+  // 합격/불합격은 종류별로 모아 upsert 하므로 같은 학생이 청크에 두 번 있으면 제출 순서와 다른 결과가 남는다. 마지막 제출만 남긴다
+  private static List<SaveExamScoreRequest> latestByStudent(List<SaveExamScoreRequest> chunk) {
+    Map<String, SaveExamScoreRequest> latest = new LinkedHashMap<>(chunk.size() * 2);
+    for (SaveExamScoreRequest request : chunk) {
+      latest.put(request.getStudentName(), request);
+    }
+    return latest.size() == chunk.size() ? chunk : new ArrayList<>(latest.values());
+  }
+
+  private StudentScore toStudentScore(
+      String exam, String studentName, int korScore, int englishScore, int mathScore) {
+    return StudentScore.builder()
+        .exam(exam)
+        .studentName(studentName)
+        .korScore(korScore)
+        .englishScore(englishScore)
+        .mathScore(mathScore)
+        .build();
+  }
+
+  private StudentPass toStudentPass(String exam, String studentName, double avgScore) {
+    return StudentPass.builder().exam(exam).studentName(studentName).avgScore(avgScore).build();
+  }
 
-    return studentFails.stream()
-        .filter(fail -> fail.getExam().equals(exam))
-        .map(fail -> new ExamFailStudentResponse(fail.getStudentName(), fail.getAvgScore()))
-        .toList();
+  private StudentFail toStudentFail(String exam, String studentName, double avgScore) {
+    return StudentFail.builder().exam(exam).studentName(studentName).avgScore(avgScore).build();
   }
 }
@@ -0,0 +1,165 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.model.StudentFail;
+import com.jyujyu.dayonetest.model.StudentPass;
+import com.jyujyu.dayonetest.model.StudentScore;
+import io.micrometer.core.annotation.Timed;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * (exam, student_name) 유니크 키를 기준으로 점수와 합격/불합격 결과를 upsert 한다.
+ *
+ * <p>기존 행을 먼저 조회하지 않고 INSERT ... ON DUPLICATE KEY UPDATE 로 한 번에 쓰며, 반대편 결과 테이블의 행은 같은 배치에서 지운다.
+ * rewriteBatchedStatements 덕분에 청크마다 다중 행 INSERT 한 번으로 전송된다.
+ *
+ * <p>점수는 재제출 여부를 알아야 하므로 다중 행 INSERT 를 직접 만들어 affected rows 를 받는다. 신규 행은 1, 덮어쓴 행은 2 로 세어지고,
+ * revision 을 올려 같은 점수로 다시 제출해도 2 가 된다. 덮어쓸 때는 이전 점수를 prev_* 컬럼에 옮겨 두고, 재제출이 있었던 청크만 upsert 가 잡은 행
+ * 락을 쥔 채 다시 읽어 돌려준다. 통계는 이 이전 점수를 빼고 새 점수를 더해 증분으로 맞춘다.
+ *
+ * <p>auto-commit 이 꺼진 커넥션에서 트랜잭션 없이 쓰면 풀에 반납될 때 조용히 롤백되므로 호출한 쪽의 트랜잭션 안에서만 실행한다.
+ */
+@Service
+@Timed(value = "score.upsert.service", histogram = true)
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class StudentScoreUpsertService {
+
+  static final String UPSERT_SCORE_SQL_PREFIX =
+      "INSERT INTO student_score (exam, student_name, kor_score, english_score, math_score)"
+          + " VALUES ";
+
+  // ON DUPLICATE KEY UPDATE 의 대입은 왼쪽부터 적용되므로 prev_* 를 먼저 써야 덮어쓰기 전 점수가 남는다
+  static final String UPSERT_SCORE_SQL_SUFFIX =
+      " ON DUPLICATE KEY UPDATE prev_kor_score = kor_score,"
+          + " prev_english_score = english_score, prev_math_score = math_score,"
+          + " kor_score = VALUES(kor_score),"
+          + " english_score = VALUES(english_score), math_score = VALUES(math_score),"
+          + " revision = revision + 1";
+
+  static final String PREVIOUS_SCORE_SQL_PREFIX =
+      "SELECT exam, student_name, prev_kor_score, prev_english_score, prev_math_score"
+          + " FROM student_score WHERE prev_kor_score IS NOT NULL AND (exam, student_name) IN (";
+
+  static final String UPSERT_PASS_SQL =
+      "INSERT INTO student_pass (exam, student_name, avg_score) VALUES (?, ?, ?)"
+          + " ON DUPLICATE KEY UPDATE avg_score = VALUES(avg_score)";
+
+  static final String UPSERT_FAIL_SQL =
+      "INSERT INTO student_fail (exam, student_name, avg_score) VALUES (?, ?, ?)"
+          + " ON DUPLICATE KEY UPDATE avg_score = VALUES(avg_score)";
+
+  static final String DELETE_PASS_SQL =
+      "DELETE FROM student_pass WHERE exam = ? AND student_name = ?";
+
+  static final String DELETE_FAIL_SQL =
+      "DELETE FROM student_fail WHERE exam = ? AND student_name = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** 점수를 upsert 하고, 그중 이미 있던 학생(재제출)의 덮어쓰기 전 점수를 돌려준다. */
+  public List<StudentScore> upsertScores(List<StudentScore> studentScores) {
+    if (studentScores.isEmpty()) {
+      return List.of();
+    }
+
+    int affectedRows =
+        jdbcTemplate.update(
+            upsertScoreSql(studentScores.size()),
+            ps -> {
+              int index = 1;
+              for (StudentScore score : studentScores) {
+                ps.setString(index++, score.getExam());
+                ps.setString(index++, score.getStudentName());
+                ps.setInt(index++, score.getKorScore());
+                ps.setInt(index++, score.getEnglishScore());
+                ps.setInt(index++, score.getMathScore());
+              }
+            });
+    if (affectedRows == studentScores.size()) {
+      return List.of();
+    }
+
+    // 신규 행의 prev_* 는 NULL 이고, 덮어쓴 행은 방금 이 트랜잭션이 쓴 값이라 다른 트랜잭션이 끼어들 수 없다
+    return jdbcTemplate.query(
+        previousScoreSql(studentScores.size()),
+        ps -> {
+          int index = 1;
+          for (StudentScore score : studentScores) {
+            ps.setString(index++, score.getExam());
+            ps.setString(index++, score.getStudentName());
+          }
+        },
+        (rs, rowNum) ->
+            StudentScore.builder()
+                .exam(rs.getString("exam"))
+                .studentName(rs.getString("student_name"))
+                .korScore(rs.getInt("prev_kor_score"))
+                .englishScore(rs.getInt("prev_english_score"))
+                .mathScore(rs.getInt("prev_math_score"))
+                .build());
+  }
+
+  static String upsertScoreSql(int rows) {
+    return UPSERT_SCORE_SQL_PREFIX
+        + String.join(", ", Collections.nCopies(rows, "(?, ?, ?, ?, ?)"))
+        + UPSERT_SCORE_SQL_SUFFIX;
+  }
+
+  static String previousScoreSql(int rows) {
+    return PREVIOUS_SCORE_SQL_PREFIX + String.join(", ", Collections.nCopies(rows, "(?, ?)")) + ")";
+  }
+
+  public void upsertPasses(List<StudentPass> studentPasses) {
+    if (studentPasses.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(
+        UPSERT_PASS_SQL,
+        studentPasses,
+        studentPasses.size(),
+        (ps, pass) -> {
+          ps.setString(1, pass.getExam());
+          ps.setString(2, pass.getStudentName());
+          ps.setDouble(3, pass.getAvgScore());
+        });
+    jdbcTemplate.batchUpdate(
+        DELETE_FAIL_SQL,
+        studentPasses,
+        studentPasses.size(),
+        (ps, pass) -> {
+          ps.setString(1, pass.getExam());
+          ps.setString(2, pass.getStudentName());
+        });
+  }
+
+  public void upsertFails(List<StudentFail> studentFails) {
+    if (studentFails.isEmpty()) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(
+        UPSERT_FAIL_SQL,
+        studentFails,
+        studentFails.size(),
+        (ps, fail) -> {
+          ps.setString(1, fail.getExam());
+          ps.setString(2, fail.getStudentName());
+          ps.setDouble(3, fail.getAvgScore());
+        });
+    jdbcTemplate.batchUpdate(
+        DELETE_PASS_SQL,
+        studentFails,
+        studentFails.size(),
+        (ps, fail) -> {
+          ps.setString(1, fail.getExam());
+          ps.setString(2, fail.getStudentName());
+        });
+  }
+}
@@ -0,0 +1,25 @@
+package com.jyujyu.dayonetest.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** 현재 트랜잭션이 커밋된 뒤에 작업을 실행한다. 트랜잭션 밖에서 호출하면 바로 실행한다. */
+public final class AfterCommit {
+
+  private AfterCommit() {}
+
+  public static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,94 @@
+package com.jyujyu.dayonetest.support;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvReader implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final BufferedReader reader;
+  private long lineNumber;
+
+  public CsvReader(InputStream in) {
+    this.reader =
+        new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+  }
+
+  public List<String> readRow() {
+    String line = readLine();
+    if (line == null) {
+      return null;
+    }
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+
+    for (int i = 0; ; i++) {
+      if (i == line.length()) {
+        if (!quoted) {
+          break;
+        }
+        String next = readLine();
+        if (next == null) {
+          throw new IllegalArgumentException("unterminated quoted field at line " + lineNumber);
+        }
+        field.append('\n');
+        line = next;
+        i = -1;
+        continue;
+      }
+
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          field.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+
+    fields.add(field.toString());
+    return fields;
+  }
+
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private String readLine() {
+    try {
+      String line = reader.readLine();
+      if (line != null) {
+        lineNumber++;
+      }
+      return line;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.jyujyu.dayonetest.support;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvWriter implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Writer writer;
+  private long rowCount;
+
+  public CsvWriter(OutputStream out) {
+    this.writer =
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+  }
+
+  public void writeHeader(String... columns) {
+    writeLine(columns);
+  }
+
+  public void writeRow(Object... values) {
+    writeLine(values);
+    rowCount++;
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+
+  private void writeLine(Object[] values) {
+    try {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        writer.write(escape(values[i]));
+      }
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String escape(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = value.toString();
+    if (text.indexOf(',') < 0
+        && text.indexOf('"') < 0
+        && text.indexOf('\n') < 0
+        && text.indexOf('\r') < 0) {
+      return text;
+    }
+    return '"' + text.replace("\"", "\"\"") + '"';
+  }
+}
@@ -0,0 +1,116 @@
+package com.jyujyu.dayonetest.support;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+public class S3MultipartOutputStream extends OutputStream {
+
+  private final S3MultipartUpload upload;
+  private final Executor executor;
+  private final int partSize;
+  private final Semaphore inFlight;
+  private final List<CompletableFuture<Void>> parts = new ArrayList<>();
+
+  private byte[] buffer;
+  private int position;
+  private int partNumber;
+  private boolean closed;
+  private boolean finished;
+
+  public S3MultipartOutputStream(
+      S3MultipartUpload upload, S3MultipartSettings settings, Executor executor) {
+    this.upload = upload;
+    this.executor = executor;
+    this.partSize = Math.toIntExact(settings.partSize());
+    this.inFlight = new Semaphore(settings.concurrency());
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureBuffer();
+    buffer[position++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      ensureBuffer();
+      int n = Math.min(len, partSize - position);
+      System.arraycopy(b, off, buffer, position, n);
+      position += n;
+      off += n;
+      len -= n;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      closed = true;
+      if (position > 0 || partNumber == 0) {
+        flushPart();
+      }
+      CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+      upload.complete();
+      finished = true;
+    } catch (IOException | RuntimeException e) {
+      abort();
+      throw e;
+    }
+  }
+
+  public void abort() {
+    if (finished) {
+      return;
+    }
+    closed = true;
+    finished = true;
+    CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+        .exceptionally(e -> null)
+        .join();
+    upload.abort();
+  }
+
+  private void ensureBuffer() throws IOException {
+    if (closed) {
+      throw new IOException("S3 multipart stream is closed");
+    }
+    if (buffer == null) {
+      buffer = new byte[partSize];
+    } else if (position == partSize) {
+      flushPart();
+      buffer = new byte[partSize];
+    }
+  }
+
+  private void flushPart() throws IOException {
+    if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+      throw new IOException("S3 multipart part upload failed");
+    }
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    }
+
+    byte[] part = buffer == null ? new byte[0] : buffer;
+    int length = position;
+    int number = ++partNumber;
+    parts.add(
+        CompletableFuture.runAsync(() -> upload.uploadBytesPart(number, part, length), executor)
+            .whenComplete((result, e) -> inFlight.release()));
+
+    buffer = null;
+    position = 0;
+  }
+}
@@ -0,0 +1,3 @@
+package com.jyujyu.dayonetest.support;
+
+public record S3MultipartSettings(long partSize, int concurrency, int maxAttempts) {}
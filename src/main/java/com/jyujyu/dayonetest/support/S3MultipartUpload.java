@@ -0,0 +1,118 @@
+package com.jyujyu.dayonetest.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import org.apache.commons.io.input.BoundedInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+public class S3MultipartUpload {
+
+  private static final String CONTENT_TYPE = "application/octet-stream";
+
+  private final S3Client s3Client;
+  private final String bucket;
+  private final String key;
+  private final String uploadId;
+  private final int maxAttempts;
+  private final Map<Integer, CompletedPart> completedParts = new ConcurrentSkipListMap<>();
+
+  private S3MultipartUpload(
+      S3Client s3Client, String bucket, String key, String uploadId, int maxAttempts) {
+    this.s3Client = s3Client;
+    this.bucket = bucket;
+    this.key = key;
+    this.uploadId = uploadId;
+    this.maxAttempts = maxAttempts;
+  }
+
+  public static S3MultipartUpload start(
+      S3Client s3Client, String bucket, String key, int maxAttempts) {
+    String uploadId =
+        s3Client
+            .createMultipartUpload(
+                CreateMultipartUploadRequest.builder().bucket(bucket).key(key).build())
+            .uploadId();
+    return new S3MultipartUpload(s3Client, bucket, key, uploadId, maxAttempts);
+  }
+
+  public void uploadFilePart(int partNumber, Path file, long offset, long length) {
+    uploadPart(
+        partNumber,
+        () ->
+            RequestBody.fromContentProvider(
+                () -> openRange(file, offset, length), length, CONTENT_TYPE));
+  }
+
+  public void uploadBytesPart(int partNumber, byte[] bytes, int length) {
+    uploadPart(
+        partNumber,
+        () ->
+            RequestBody.fromContentProvider(
+                () -> new ByteArrayInputStream(bytes, 0, length), length, CONTENT_TYPE));
+  }
+
+  public void complete() {
+    s3Client.completeMultipartUpload(
+        CompleteMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .multipartUpload(
+                CompletedMultipartUpload.builder().parts(completedParts.values()).build())
+            .build());
+  }
+
+  public void abort() {
+    s3Client.abortMultipartUpload(
+        AbortMultipartUploadRequest.builder().bucket(bucket).key(key).uploadId(uploadId).build());
+  }
+
+  private void uploadPart(int partNumber, Supplier<RequestBody> body) {
+    var request =
+        UploadPartRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .partNumber(partNumber)
+            .build();
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        String eTag = s3Client.uploadPart(request, body.get()).eTag();
+        completedParts.put(
+            partNumber, CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+        return;
+      } catch (SdkException e) {
+        if (attempt >= maxAttempts) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private static InputStream openRange(Path file, long offset, long length) {
+    try {
+      FileChannel channel = FileChannel.open(file, StandardOpenOption.READ).position(offset);
+      return new BoundedInputStream(Channels.newInputStream(channel), length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
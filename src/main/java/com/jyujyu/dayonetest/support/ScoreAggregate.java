@@ -0,0 +1,125 @@
+package com.jyujyu.dayonetest.support;
+
+import com.jyujyu.dayonetest.ScoreCalculator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시험 통계의 증분. 새 점수는 {@link #add} 로 더하고, 재제출로 덮어쓴 점수는 {@link #remove} 로 뺀다.
+ *
+ * <p>건수, 합, 제곱합, 히스토그램은 뺄 수 있지만 최솟값/최댓값은 넓히기만 한다. 재제출로 최솟값이나 최댓값을 가진 점수가 사라져도 그대로 남으므로, 정확한 값이 필요하면
+ * backfill 로 다시 집계한다.
+ */
+public class ScoreAggregate {
+
+  public static final List<String> SUBJECTS = List.of("kor", "english", "math", "total");
+  public static final int[] MAX_SCORES = {100, 100, 100, 300};
+
+  private long count;
+  private long passCount;
+  private long changes;
+  private final long[] sums = new long[SUBJECTS.size()];
+  private final long[] squareSums = new long[SUBJECTS.size()];
+  private final long[] mins = new long[SUBJECTS.size()];
+  private final long[] maxs = new long[SUBJECTS.size()];
+  private final ScoreHistogram[] histograms = new ScoreHistogram[SUBJECTS.size()];
+
+  public ScoreAggregate() {
+    Arrays.fill(mins, Long.MAX_VALUE);
+    Arrays.fill(maxs, Long.MIN_VALUE);
+    for (int i = 0; i < SUBJECTS.size(); i++) {
+      histograms[i] = new ScoreHistogram(MAX_SCORES[i]);
+    }
+  }
+
+  public static ScoreAggregate of(int korScore, int englishScore, int mathScore) {
+    var aggregate = new ScoreAggregate();
+    aggregate.add(korScore, englishScore, mathScore);
+    return aggregate;
+  }
+
+  public void add(int korScore, int englishScore, int mathScore) {
+    apply(korScore, englishScore, mathScore, 1);
+  }
+
+  public void remove(int korScore, int englishScore, int mathScore) {
+    apply(korScore, englishScore, mathScore, -1);
+  }
+
+  public void set(int subject, long sum, long squareSum, long min, long max) {
+    sums[subject] = sum;
+    squareSums[subject] = squareSum;
+    mins[subject] = min;
+    maxs[subject] = max;
+  }
+
+  public ScoreHistogram getHistogram(int subject) {
+    return histograms[subject];
+  }
+
+  public void setCounts(long count, long passCount) {
+    this.count = count;
+    this.passCount = passCount;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  /** 더하거나 뺀 점수가 하나도 없으면 true. 재제출만 있으면 건수는 0 이어도 비어 있지 않다 */
+  public boolean isEmpty() {
+    return changes == 0;
+  }
+
+  /** 통계 인자 19개 다음에 0 이 아닌 히스토그램 칸을 ("과목:점수", 건수) 쌍으로 붙인다 */
+  public String[] toScriptArgs(boolean replace) {
+    List<String> args = new ArrayList<>(Arrays.asList(toStatsArgs(replace)));
+    for (int i = 0; i < SUBJECTS.size(); i++) {
+      ScoreHistogram histogram = histograms[i];
+      for (int score = 0; score <= histogram.getMaxScore(); score++) {
+        if (histogram.getCount(score) != 0) {
+          args.add(SUBJECTS.get(i) + ":" + score);
+          args.add(Long.toString(histogram.getCount(score)));
+        }
+      }
+    }
+    return args.toArray(String[]::new);
+  }
+
+  private String[] toStatsArgs(boolean replace) {
+    String[] args = new String[3 + SUBJECTS.size() * 4];
+    args[0] = replace ? "1" : "0";
+    args[1] = Long.toString(count);
+    args[2] = Long.toString(passCount);
+    for (int i = 0; i < SUBJECTS.size(); i++) {
+      args[3 + i * 4] = Long.toString(sums[i]);
+      args[4 + i * 4] = Long.toString(squareSums[i]);
+      args[5 + i * 4] = Long.toString(mins[i]);
+      args[6 + i * 4] = Long.toString(maxs[i]);
+    }
+    return args;
+  }
+
+  private void apply(int korScore, int englishScore, int mathScore, int sign) {
+    changes++;
+    count += sign;
+    if (ScoreCalculator.isPass(ScoreCalculator.average(korScore, englishScore, mathScore))) {
+      passCount += sign;
+    }
+    applyValue(0, korScore, sign);
+    applyValue(1, englishScore, sign);
+    applyValue(2, mathScore, sign);
+    applyValue(3, korScore + englishScore + mathScore, sign);
+  }
+
+  private void applyValue(int subject, int value, int sign) {
+    sums[subject] += (long) sign * value;
+    squareSums[subject] += (long) sign * value * value;
+    histograms[subject].add(value, sign);
+    if (sign > 0) {
+      mins[subject] = Math.min(mins[subject], value);
+      maxs[subject] = Math.max(maxs[subject], value);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.jyujyu.dayonetest.support;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class ScoreHistogram {
+
+  private final long[] counts;
+  private long total;
+
+  public ScoreHistogram(int maxScore) {
+    this.counts = new long[maxScore + 1];
+  }
+
+  public void add(int score) {
+    add(score, 1);
+  }
+
+  public void add(int score, long count) {
+    // 범위를 벗어난 점수는 양 끝 칸에 센다
+    counts[Math.clamp(score, 0, counts.length - 1)] += count;
+    total += count;
+  }
+
+  public void merge(ScoreHistogram other) {
+    for (int score = 0; score < counts.length; score++) {
+      add(score, other.counts[score]);
+    }
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public long getCount(int score) {
+    return counts[score];
+  }
+
+  public int getMaxScore() {
+    return counts.length - 1;
+  }
+
+  /** nearest-rank 방식: 누적 빈도가 ceil(q * total) 이상이 되는 가장 작은 점수 */
+  public int quantile(double q) {
+    if (total == 0) {
+      throw new IllegalStateException("empty histogram");
+    }
+    long rank = Math.max(1, (long) Math.ceil(q * total));
+    long cumulative = 0;
+    for (int score = 0; score < counts.length; score++) {
+      cumulative += counts[score];
+      if (cumulative >= rank) {
+        return score;
+      }
+    }
+    return counts.length - 1;
+  }
+
+  public List<Long> toList() {
+    return Arrays.stream(counts).boxed().toList();
+  }
+}
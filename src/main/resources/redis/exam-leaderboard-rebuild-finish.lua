@@ -0,0 +1,24 @@
+-- KEYS[1]: exam:{exam}:leaderboard, KEYS[2]: rebuild 진행 표시 키, KEYS[3]: rebuild 임시 키
+-- ARGV[1]: rebuild 토큰
+-- ARGV[2]: 1 이면 임시 키로 교체하고, 0 이면 임시 키를 버린다
+-- 진행 표시 키가 만료되어 토큰이 다르면 아무것도 하지 않고 -1 을 반환한다
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+  return -1
+end
+
+local count = 0
+if ARGV[2] == '1' then
+  if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('RENAME', KEYS[3], KEYS[1])
+    -- RENAME 은 임시 키의 만료 시간까지 옮기므로 지운다
+    redis.call('PERSIST', KEYS[1])
+  else
+    redis.call('DEL', KEYS[1])
+  end
+  count = redis.call('ZCARD', KEYS[1])
+else
+  redis.call('DEL', KEYS[3])
+end
+
+redis.call('DEL', KEYS[2])
+return count
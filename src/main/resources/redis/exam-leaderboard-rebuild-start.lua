@@ -0,0 +1,10 @@
+-- KEYS[1]: rebuild 진행 표시 키, KEYS[2]: rebuild 임시 키
+-- ARGV[1]: rebuild 토큰, ARGV[2]: 진행 표시 키 만료 시간(ms)
+-- 이미 다른 rebuild 가 진행 중이면 0 을 반환한다
+if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+  return 0
+end
+
+-- 이전 rebuild 가 정리하지 못하고 남긴 임시 키를 버린다
+redis.call('DEL', KEYS[2])
+return 1
@@ -0,0 +1,18 @@
+-- KEYS[1]: exam:{exam}:leaderboard, KEYS[2]: rebuild 진행 표시 키, KEYS[3]: rebuild 임시 키
+-- ARGV: 학생 이름, 평균 점수 쌍
+-- rebuild 중이면 RENAME 으로 덮어써져도 유실되지 않도록 임시 키에도 같이 쓴다
+local rebuilding = redis.call('EXISTS', KEYS[2]) == 1
+
+for i = 1, #ARGV, 2 do
+  redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+  if rebuilding then
+    redis.call('ZADD', KEYS[3], ARGV[i + 1], ARGV[i])
+  end
+end
+
+if rebuilding then
+  -- 임시 키가 rebuild 보다 오래 남지 않도록 진행 표시 키의 만료 시각을 따라간다
+  redis.call('PEXPIRE', KEYS[3], redis.call('PTTL', KEYS[2]))
+end
+
+return #ARGV / 2
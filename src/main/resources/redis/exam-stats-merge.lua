@@ -0,0 +1,42 @@
+-- KEYS[1]: exam:{exam}:stats, KEYS[2]: exam:{exam}:histogram
+-- ARGV[1]: 1 이면 기존 통계를 지우고 다시 쓴다 (backfill)
+-- ARGV[2..3]: count, pass (재제출로 뺀 만큼 음수일 수 있다)
+-- ARGV[4..19]: 과목(kor, english, math, total) 별 sum, sq, min, max. 더한 점수가 없으면 min > max 이고 최솟값/최댓값은 그대로 둔다
+-- ARGV[20..]: 히스토그램 "과목:점수", 건수 쌍
+local key = KEYS[1]
+local histogramKey = KEYS[2]
+if ARGV[1] == '1' then
+  redis.call('DEL', key, histogramKey)
+end
+
+redis.call('HINCRBY', key, 'count', ARGV[2])
+redis.call('HINCRBY', key, 'pass', ARGV[3])
+
+local subjects = { 'kor', 'english', 'math', 'total' }
+for i, subject in ipairs(subjects) do
+  local base = 3 + (i - 1) * 4
+  redis.call('HINCRBY', key, subject .. ':sum', ARGV[base + 1])
+  redis.call('HINCRBY', key, subject .. ':sq', ARGV[base + 2])
+
+  local min = tonumber(ARGV[base + 3])
+  local max = tonumber(ARGV[base + 4])
+  if min <= max then
+    local currentMin = tonumber(redis.call('HGET', key, subject .. ':min'))
+    if currentMin == nil or min < currentMin then
+      redis.call('HSET', key, subject .. ':min', min)
+    end
+
+    local currentMax = tonumber(redis.call('HGET', key, subject .. ':max'))
+    if currentMax == nil or max > currentMax then
+      redis.call('HSET', key, subject .. ':max', max)
+    end
+  end
+end
+
+for i = 20, #ARGV, 2 do
+  if redis.call('HINCRBY', histogramKey, ARGV[i], ARGV[i + 1]) <= 0 then
+    redis.call('HDEL', histogramKey, ARGV[i])
+  end
+end
+
+return redis.call('HGET', key, 'count')
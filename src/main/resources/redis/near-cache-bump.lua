@@ -0,0 +1,7 @@
+-- KEYS: 캐시 세대 키 목록
+-- ARGV[1]: 세대 키 만료 시간(ms)
+for _, key in ipairs(KEYS) do
+  redis.call('INCR', key)
+  redis.call('PEXPIRE', key, ARGV[1])
+end
+return #KEYS
@@ -0,0 +1,9 @@
+-- KEYS[1]: 캐시 키, KEYS[2]: 캐시 세대 키
+-- ARGV[1]: 값, ARGV[2]: 만료 시간(ms), ARGV[3]: DB 를 읽기 전에 본 세대 (없으면 빈 문자열)
+-- 읽는 동안 삭제로 세대가 바뀌었으면 이전 값을 되살리지 않도록 저장하지 않고 0 을 반환한다
+if (redis.call('GET', KEYS[2]) or '') ~= ARGV[3] then
+  return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+return 1
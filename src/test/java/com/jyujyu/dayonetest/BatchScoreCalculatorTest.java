@@ -0,0 +1,62 @@
+package com.jyujyu.dayonetest;
+
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BatchScoreCalculatorTest {
+
+  private static final int SIZE = 1037;
+
+  private final int[] korScores = new int[SIZE];
+  private final int[] englishScores = new int[SIZE];
+  private final int[] mathScores = new int[SIZE];
+
+  BatchScoreCalculatorTest() {
+    var random = new Random(0);
+    for (int i = 0; i < SIZE; i++) {
+      korScores[i] = random.nextInt(101);
+      englishScores[i] = random.nextInt(101);
+      mathScores[i] = random.nextInt(101);
+    }
+  }
+
+  @Test
+  @DisplayName("일괄 채점 결과는 학생별 ScoreCalculator 결과와 같다")
+  void scoreTest() {
+    var scores = BatchScoreCalculator.score(korScores, englishScores, mathScores);
+
+    assertSameAsScoreCalculator(scores.averages(), scores.passBitmap());
+  }
+
+  @Test
+  @DisplayName("Vector API 경로와 스칼라 경로의 결과가 같다")
+  void vectorAndScalarTest() {
+    Assumptions.assumeTrue(BatchScoreCalculator.VECTOR_AVAILABLE);
+
+    double[] vectorAverages = new double[SIZE];
+    long[] vectorBitmap = new long[(SIZE + 63) >>> 6];
+    VectorBatchScoreCalculator.score(
+        korScores, englishScores, mathScores, SIZE, vectorAverages, vectorBitmap);
+
+    double[] scalarAverages = new double[SIZE];
+    long[] scalarBitmap = new long[(SIZE + 63) >>> 6];
+    BatchScoreCalculator.scoreScalar(
+        korScores, englishScores, mathScores, 0, SIZE, scalarAverages, scalarBitmap);
+
+    Assertions.assertArrayEquals(scalarAverages, vectorAverages);
+    Assertions.assertArrayEquals(scalarBitmap, vectorBitmap);
+    assertSameAsScoreCalculator(vectorAverages, vectorBitmap);
+  }
+
+  private void assertSameAsScoreCalculator(double[] averages, long[] passBitmap) {
+    for (int i = 0; i < SIZE; i++) {
+      double expected = ScoreCalculator.average(korScores[i], englishScores[i], mathScores[i]);
+      Assertions.assertEquals(expected, averages[i]);
+      Assertions.assertEquals(
+          ScoreCalculator.isPass(expected), BatchScoreCalculator.isPass(passBitmap, i));
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.jyujyu.dayonetest;
 
 import com.jyujyu.dayonetest.model.StudentScoreFixture;
 import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import com.jyujyu.dayonetest.service.ExamPartitionService;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -11,11 +12,14 @@ class DayonetestApplicationTests extends IntegrationTest {
 
   @Autowired private StudentScoreRepository studentScoreRepository;
 
+  @Autowired private ExamPartitionService examPartitionService;
+
   @Autowired private EntityManager entityManager;
 
   @Test
   void contextLoads() {
     var studentScore = StudentScoreFixture.passed();
+    examPartitionService.createPartition(studentScore.getExam());
     var savedStudentScore = studentScoreRepository.save(studentScore);
 
     entityManager.flush();
@@ -2,6 +2,7 @@ package com.jyujyu.dayonetest;
 
 import com.jyujyu.dayonetest.service.KafkaConsumerService;
 import com.jyujyu.dayonetest.service.KafkaProducerService;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -20,16 +21,17 @@ class KafkaConsumerApplicationTests extends IntegrationTest {
   @MockitoBean private KafkaConsumerService kafkaConsumerService;
 
   @Test
+  @SuppressWarnings("unchecked")
   void kafkaSendAndConsumeTest() {
     String topic = "test-topic";
     String expectValue = "expect-value";
 
     kafkaProducerService.send(topic, expectValue);
 
-    var stringCaptor = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<List<String>> messagesCaptor = ArgumentCaptor.forClass(List.class);
     Mockito.verify(kafkaConsumerService, Mockito.timeout(5000).times(1))
-        .process(stringCaptor.capture());
+        .processBatch(messagesCaptor.capture());
 
-    Assertions.assertEquals(expectValue, stringCaptor.getValue());
+    Assertions.assertEquals(List.of(expectValue), messagesCaptor.getValue());
   }
 }
@@ -0,0 +1,35 @@
+package com.jyujyu.dayonetest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScoreCalculatorTest {
+
+  @Test
+  @DisplayName("ScoreCalculator 평균 계산은 MyCalculator 연산 결과와 같다")
+  void averageTest() {
+    for (int score = 0; score <= 100; score++) {
+      int korScore = score;
+      int englishScore = (score * 7) % 101;
+      int mathScore = 100 - score;
+
+      Double expected =
+          new MyCalculator(0.0)
+              .add((double) korScore)
+              .add((double) englishScore)
+              .add((double) mathScore)
+              .divide(3.0)
+              .getResult();
+
+      Assertions.assertEquals(expected, ScoreCalculator.average(korScore, englishScore, mathScore));
+    }
+  }
+
+  @Test
+  @DisplayName("평균 60점 이상이면 합격")
+  void isPassTest() {
+    Assertions.assertTrue(ScoreCalculator.isPass(60.0));
+    Assertions.assertFalse(ScoreCalculator.isPass(59.99));
+  }
+}
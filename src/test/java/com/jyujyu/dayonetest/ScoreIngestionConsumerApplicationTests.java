@@ -0,0 +1,47 @@
+package com.jyujyu.dayonetest;
+
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
+import com.jyujyu.dayonetest.service.ExamPartitionService;
+import com.jyujyu.dayonetest.service.ScoreIngestionService;
+import com.jyujyu.dayonetest.service.StudentScoreService;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@Order(0)
+@DirtiesContext
+@TestPropertySource(properties = "score.ingestion.mode=async")
+class ScoreIngestionConsumerApplicationTests extends IntegrationTest {
+
+  @Autowired private ScoreIngestionService scoreIngestionService;
+
+  @Autowired private ExamPartitionService examPartitionService;
+
+  @MockitoBean private StudentScoreService studentScoreService;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void asyncIngestionTest() {
+    // given
+    examPartitionService.createPartition("asyncExam");
+    var request = new SaveExamScoreRequest("jyujyu", 80, 90, 100);
+
+    // when
+    boolean queued = scoreIngestionService.submit("asyncExam", request);
+
+    // then
+    ArgumentCaptor<List<SaveExamScoreRequest>> requestsCaptor = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(studentScoreService, Mockito.timeout(10000).times(1))
+        .saveScores(Mockito.eq("asyncExam"), requestsCaptor.capture());
+
+    Assertions.assertTrue(queued);
+    Assertions.assertEquals("jyujyu", requestsCaptor.getValue().get(0).getStudentName());
+  }
+}
@@ -0,0 +1,66 @@
+package com.jyujyu.dayonetest.controller.advice;
+
+import com.jyujyu.dayonetest.exception.ExamImportException;
+import com.jyujyu.dayonetest.exception.ExamPartitionChangedException;
+import com.jyujyu.dayonetest.exception.LeaderboardRebuildInProgressException;
+import com.jyujyu.dayonetest.exception.PartitionLimitException;
+import com.jyujyu.dayonetest.exception.PartitionLockTimeoutException;
+import com.jyujyu.dayonetest.exception.ScorePublishException;
+import com.jyujyu.dayonetest.exception.UnknownExamException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class ApiExceptionAdviceTest {
+
+  private final ApiExceptionAdvice apiExceptionAdvice = new ApiExceptionAdvice();
+
+  @Test
+  @DisplayName("도메인 예외를 404, 409, 503 으로 바꾸고 메시지를 detail 로 전달")
+  void statusTest() {
+    var notFound = apiExceptionAdvice.handleNotFound(new UnknownExamException("exam"));
+    Assertions.assertEquals(HttpStatus.NOT_FOUND.value(), notFound.getStatus());
+    Assertions.assertEquals(
+        "unknown exam: exam. register it with PUT /admin/exam/exam", notFound.getDetail());
+
+    Assertions.assertEquals(
+        HttpStatus.CONFLICT.value(),
+        apiExceptionAdvice
+            .handleConflict(new PartitionLimitException("student_score"))
+            .getStatus());
+    Assertions.assertEquals(
+        HttpStatus.CONFLICT.value(),
+        apiExceptionAdvice
+            .handleConflict(new LeaderboardRebuildInProgressException("exam"))
+            .getStatus());
+
+    var cause = new TimeoutException();
+    Assertions.assertEquals(
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        apiExceptionAdvice
+            .handleUnavailable(new ExamPartitionChangedException("exam", cause))
+            .getStatus());
+    Assertions.assertEquals(
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        apiExceptionAdvice.handleUnavailable(new PartitionLockTimeoutException(cause)).getStatus());
+    Assertions.assertEquals(
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        apiExceptionAdvice
+            .handleUnavailable(new ScorePublishException("score event publish failed", cause))
+            .getStatus());
+  }
+
+  @Test
+  @DisplayName("import 실패는 이어서 시작할 startRow 를 본문에 실어 줌")
+  void importFailureTest() {
+    var problem =
+        apiExceptionAdvice.handleImportFailure(
+            new ExamImportException("exam", 1500, new IllegalStateException("db down")));
+
+    Assertions.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), problem.getStatus());
+    Assertions.assertEquals("exam", problem.getProperties().get("exam"));
+    Assertions.assertEquals(1500L, problem.getProperties().get("startRow"));
+  }
+}
@@ -0,0 +1,74 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamArchiveResponse;
+import com.jyujyu.dayonetest.controller.response.ExamImportResponse;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ExamAdminJobServiceMockTest {
+
+  private ExamScoreImportService examScoreImportService;
+  private ExamStatsService examStatsService;
+  private ExamPartitionService examPartitionService;
+  private RedisService redisService;
+  private ExamAdminJobService examAdminJobService;
+
+  @BeforeEach
+  void beforeEach() {
+    examScoreImportService = Mockito.mock(ExamScoreImportService.class);
+    examStatsService = Mockito.mock(ExamStatsService.class);
+    examPartitionService = Mockito.mock(ExamPartitionService.class);
+    redisService = Mockito.mock(RedisService.class);
+    examAdminJobService =
+        new ExamAdminJobService(
+            Mockito.mock(ExamResultExportService.class),
+            examScoreImportService,
+            examStatsService,
+            Mockito.mock(ExamLeaderboardService.class),
+            examPartitionService,
+            Mockito.mock(ExamResultCacheService.class),
+            redisService);
+  }
+
+  @Test
+  @DisplayName("관리자 작업의 결과를 CompletableFuture 로 돌려줌")
+  void jobResultTest() {
+    // given
+    var importResponse = new ExamImportResponse(10, 10, 5, 2000);
+    Mockito.when(examScoreImportService.importScores("testexam", "bucket", "scores.csv", 0))
+        .thenReturn(importResponse);
+    Mockito.when(examStatsService.backfill("testexam")).thenReturn(10L);
+
+    // when & then
+    Assertions.assertEquals(
+        importResponse,
+        examAdminJobService.importScores("testexam", "bucket", "scores.csv", 0).join());
+    Assertions.assertEquals(10L, examAdminJobService.backfillStats("testexam").join());
+    Assertions.assertNull(examAdminJobService.createExam("testexam").join());
+    Mockito.verify(examPartitionService).createPartition("testexam");
+  }
+
+  @Test
+  @DisplayName("시험을 보관하면 보관 테이블 목록을 돌려주고 Redis 의 통계와 리더보드를 지움")
+  void archiveExamTest() {
+    // given
+    List<String> archiveTables = List.of("student_score_archive_x");
+    Mockito.when(examPartitionService.archivePartition("testexam")).thenReturn(archiveTables);
+
+    // when
+    var response = examAdminJobService.archiveExam("testexam").join();
+
+    // then
+    Assertions.assertEquals(new ExamArchiveResponse(archiveTables), response);
+    Mockito.verify(redisService)
+        .delete(
+            List.of(
+                ExamStatsService.statsKey("testexam"),
+                ExamStatsService.histogramKey("testexam"),
+                ExamLeaderboardService.leaderboardKey("testexam")));
+  }
+}
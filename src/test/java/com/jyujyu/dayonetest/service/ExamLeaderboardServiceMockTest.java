@@ -0,0 +1,186 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamFailStudentResponse;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import com.jyujyu.dayonetest.controller.response.ExamRankResponse;
+import com.jyujyu.dayonetest.exception.LeaderboardRebuildInProgressException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+class ExamLeaderboardServiceMockTest {
+
+  private ExamLeaderboardService examLeaderboardService;
+  private RedisService redisService;
+  private ExamResultQueryService examResultQueryService;
+
+  @BeforeEach
+  void beforeEach() {
+    redisService = Mockito.mock(RedisService.class);
+    examResultQueryService = Mockito.mock(ExamResultQueryService.class);
+    examLeaderboardService = new ExamLeaderboardService(redisService, examResultQueryService);
+  }
+
+  @Test
+  @DisplayName("상위 k 명을 점수 내림차순으로 1등부터 순위를 매겨 반환")
+  void getTopTest() {
+    // given
+    String key = ExamLeaderboardService.leaderboardKey("testexam");
+    Mockito.when(redisService.zReverseRangeWithScores(key, 0, 1))
+        .thenReturn(
+            new LinkedHashSet<>(List.of(TypedTuple.of("a", 90.0), TypedTuple.of("b", 80.0))));
+
+    // when
+    var top = examLeaderboardService.getTop("testexam", 2);
+
+    // then
+    Assertions.assertEquals(
+        List.of(new ExamRankResponse("a", 1, 90.0), new ExamRankResponse("b", 2, 80.0)), top);
+    Assertions.assertEquals(List.of(), examLeaderboardService.getTop("testexam", 0));
+  }
+
+  @Test
+  @DisplayName("학생 순위 조회 / 랭킹에 없는 학생이면 빈 결과")
+  void getRankTest() {
+    // given
+    Mockito.when(redisService.pipelined(Mockito.any()))
+        .thenReturn(Arrays.asList(4L, 75.5))
+        .thenReturn(Arrays.asList(null, null));
+
+    // when & then
+    Assertions.assertEquals(
+        Optional.of(new ExamRankResponse("a", 5, 75.5)),
+        examLeaderboardService.getRank("testexam", "a"));
+    Assertions.assertEquals(Optional.empty(), examLeaderboardService.getRank("testexam", "z"));
+  }
+
+  @Test
+  @DisplayName("점수 기록은 랭킹 키와 rebuild 임시 키를 함께 넘겨 스크립트로 반영")
+  void recordTest() {
+    // when
+    examLeaderboardService.record("testexam", Map.of("a", 90.0));
+
+    // then
+    Mockito.verify(redisService)
+        .execute(
+            Mockito.any(),
+            Mockito.eq(
+                List.of(
+                    ExamLeaderboardService.leaderboardKey("testexam"),
+                    ExamLeaderboardService.rebuildingKey("testexam"),
+                    ExamLeaderboardService.rebuildKey("testexam"))),
+            Mockito.eq("a"),
+            Mockito.eq("90.0"));
+  }
+
+  @Test
+  @DisplayName("rebuild 는 합격/불합격 명단을 임시 키에 쌓은 뒤 스크립트로 교체")
+  void rebuildTest() {
+    // given
+    givenStudents();
+    Mockito.when(
+            redisService.execute(
+                Mockito.any(), Mockito.anyList(), Mockito.anyString(), Mockito.anyString()))
+        .thenReturn(1L)
+        .thenReturn(2L);
+
+    List<Map<String, Double>> added = new ArrayList<>();
+    Mockito.doAnswer(invocation -> added.add(Map.copyOf(invocation.getArgument(1))))
+        .when(redisService)
+        .zAddIfAbsent(Mockito.anyString(), Mockito.anyMap());
+
+    // when
+    long count = examLeaderboardService.rebuild("testexam");
+
+    // then
+    Assertions.assertEquals(2, count);
+    Assertions.assertEquals(List.of(Map.of("a", 90.0, "b", 40.0)), added);
+    Mockito.verify(redisService)
+        .zAddIfAbsent(Mockito.eq(ExamLeaderboardService.rebuildKey("testexam")), Mockito.anyMap());
+    Mockito.verify(redisService)
+        .expire(Mockito.eq(ExamLeaderboardService.rebuildKey("testexam")), Mockito.any());
+    Mockito.verify(redisService)
+        .execute(
+            Mockito.any(),
+            Mockito.eq(
+                List.of(
+                    ExamLeaderboardService.leaderboardKey("testexam"),
+                    ExamLeaderboardService.rebuildingKey("testexam"),
+                    ExamLeaderboardService.rebuildKey("testexam"))),
+            Mockito.anyString(),
+            Mockito.eq("1"));
+  }
+
+  @Test
+  @DisplayName("이미 rebuild 가 진행 중이면 거절")
+  void rebuildConflictTest() {
+    // given
+    Mockito.when(
+            redisService.execute(
+                Mockito.any(), Mockito.anyList(), Mockito.anyString(), Mockito.anyString()))
+        .thenReturn(0L);
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            LeaderboardRebuildInProgressException.class,
+            () -> examLeaderboardService.rebuild("testexam"));
+
+    // then
+    Assertions.assertEquals("testexam", exception.getExam());
+    Mockito.verifyNoInteractions(examResultQueryService);
+  }
+
+  @Test
+  @DisplayName("스트리밍에 실패하면 랭킹을 교체하지 않고 임시 키를 버림")
+  void rebuildFailureTest() {
+    // given
+    Mockito.when(
+            redisService.execute(
+                Mockito.any(), Mockito.anyList(), Mockito.anyString(), Mockito.anyString()))
+        .thenReturn(1L)
+        .thenReturn(0L);
+    Mockito.doThrow(new IllegalStateException("db down"))
+        .when(examResultQueryService)
+        .streamPassStudents(Mockito.eq("testexam"), Mockito.any());
+
+    // when
+    Assertions.assertThrows(
+        IllegalStateException.class, () -> examLeaderboardService.rebuild("testexam"));
+
+    // then
+    Mockito.verify(redisService)
+        .execute(Mockito.any(), Mockito.anyList(), Mockito.anyString(), Mockito.eq("0"));
+    Mockito.verify(redisService, Mockito.never())
+        .execute(Mockito.any(), Mockito.anyList(), Mockito.anyString(), Mockito.eq("1"));
+  }
+
+  private void givenStudents() {
+    Mockito.doAnswer(
+            invocation -> {
+              Consumer<ExamPassStudentResponse> consumer = invocation.getArgument(1);
+              consumer.accept(new ExamPassStudentResponse("a", 90.0));
+              return null;
+            })
+        .when(examResultQueryService)
+        .streamPassStudents(Mockito.eq("testexam"), Mockito.any());
+    Mockito.doAnswer(
+            invocation -> {
+              Consumer<ExamFailStudentResponse> consumer = invocation.getArgument(1);
+              consumer.accept(new ExamFailStudentResponse("b", 40.0));
+              return null;
+            })
+        .when(examResultQueryService)
+        .streamFailStudents(Mockito.eq("testexam"), Mockito.any());
+  }
+}
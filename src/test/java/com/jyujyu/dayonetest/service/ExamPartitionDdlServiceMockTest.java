@@ -0,0 +1,197 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.exception.PartitionLimitException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ExamPartitionDdlServiceMockTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private ExamPartitionDdlService examPartitionDdlService;
+
+  @BeforeEach
+  void beforeEach() {
+    jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+    examPartitionDdlService =
+        new ExamPartitionDdlService(
+            jdbcTemplate, Mockito.mock(PlatformTransactionManager.class), Duration.ofSeconds(5));
+  }
+
+  @Test
+  @DisplayName("파티션 이름은 p + MD5(exam) 으로 마이그레이션과 같고, 보관 테이블에는 보관 시각이 붙음")
+  void partitionNameTest() {
+    Assertions.assertEquals(
+        "pd41d8cd98f00b204e9800998ecf8427e", ExamPartitionDdlService.partitionName(""));
+    Assertions.assertEquals(
+        "student_pass_archive_d41d8cd98f00b204_s44we8",
+        ExamPartitionDdlService.archiveTable("student_pass", "", 1700000000L));
+  }
+
+  @Test
+  @DisplayName("보관 테이블 이름은 세 테이블 모두 MySQL 식별자 한도(64자)를 넘지 않음")
+  void archiveTableLengthTest() {
+    // 9999-12-31 23:59:59 UTC
+    long archivedAt = 253402300799L;
+    for (String table : ExamPartitionDdlService.TABLES) {
+      String archive = ExamPartitionDdlService.archiveTable(table, "x".repeat(255), archivedAt);
+      Assertions.assertTrue(archive.length() <= 64, archive);
+    }
+  }
+
+  @Test
+  @DisplayName("시험 등록은 짧은 lock_wait_timeout 안에서 없는 파티션만 추가하고, 끝나면 세션 값을 되돌림")
+  void createPartitionTest() {
+    // given
+    String exam = "it's";
+    String partition = ExamPartitionDdlService.partitionName(exam);
+    stubExists("student_score", partition);
+
+    // when
+    examPartitionDdlService.createPartitions(exam);
+
+    // then
+    InOrder inOrder = Mockito.inOrder(jdbcTemplate);
+    inOrder.verify(jdbcTemplate).execute("SET SESSION lock_wait_timeout = 5");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "ALTER TABLE student_pass ADD PARTITION (PARTITION "
+                + partition
+                + " VALUES IN ('it''s'))");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "ALTER TABLE student_fail ADD PARTITION (PARTITION "
+                + partition
+                + " VALUES IN ('it''s'))");
+    inOrder.verify(jdbcTemplate).execute("SET SESSION lock_wait_timeout = DEFAULT");
+    Mockito.verify(jdbcTemplate, Mockito.never())
+        .execute(Mockito.contains("ALTER TABLE student_score "));
+  }
+
+  @Test
+  @DisplayName("파티션이 한도에 닿으면 새 시험 등록을 거절")
+  void createPartitionLimitTest() {
+    // given
+    Mockito.when(
+            jdbcTemplate.queryForObject(
+                Mockito.anyString(), Mockito.eq(Integer.class), Mockito.eq("student_score")))
+        .thenReturn(ExamPartitionDdlService.MAX_PARTITIONS);
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            PartitionLimitException.class, () -> examPartitionDdlService.createPartitions("new"));
+
+    // then
+    Assertions.assertEquals("student_score", exception.getTable());
+    Mockito.verify(jdbcTemplate, Mockito.never()).execute(Mockito.contains("ADD PARTITION"));
+    Mockito.verify(jdbcTemplate).execute("SET SESSION lock_wait_timeout = DEFAULT");
+  }
+
+  @Test
+  @DisplayName("보관은 남은 파티션만 이어서 처리하고, 비어 있는 파티션은 보관 테이블 없이 지움")
+  void archivePartitionTest() {
+    // given : student_fail 은 이전 시도에서 이미 보관되었고, student_pass 는 비어 있는 경우
+    String partition = ExamPartitionDdlService.partitionName("exam");
+    stubExists("student_score", partition);
+    stubExists("student_pass", partition);
+    Mockito.when(
+            jdbcTemplate.queryForList(
+                "SELECT 1 FROM student_score PARTITION (" + partition + ") LIMIT 1", Integer.class))
+        .thenReturn(List.of(1));
+
+    // when
+    List<String> archives = examPartitionDdlService.archivePartitions("exam", 1700000000L);
+
+    // then
+    String archive = ExamPartitionDdlService.archiveTable("student_score", "exam", 1700000000L);
+    Assertions.assertEquals(List.of(archive), archives);
+
+    // 맞바꾸기부터 파티션 삭제까지는 테이블 쓰기 락 안에서 실행해 그사이 쓴 행이 함께 지워지지 않게 한다
+    InOrder inOrder = Mockito.inOrder(jdbcTemplate);
+    inOrder.verify(jdbcTemplate).execute("CREATE TABLE " + archive + " LIKE student_score");
+    inOrder.verify(jdbcTemplate).execute("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+    inOrder.verify(jdbcTemplate).execute("LOCK TABLES student_score WRITE, " + archive + " WRITE");
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(
+            "ALTER TABLE student_score EXCHANGE PARTITION " + partition + " WITH TABLE " + archive);
+    inOrder.verify(jdbcTemplate).execute("ALTER TABLE student_score DROP PARTITION " + partition);
+    inOrder.verify(jdbcTemplate).execute("UNLOCK TABLES");
+    inOrder.verify(jdbcTemplate).execute("LOCK TABLES student_pass WRITE");
+    inOrder.verify(jdbcTemplate).execute("ALTER TABLE student_pass DROP PARTITION " + partition);
+    inOrder.verify(jdbcTemplate).execute("UNLOCK TABLES");
+    Mockito.verify(jdbcTemplate, Mockito.never()).execute(Mockito.contains("student_fail"));
+  }
+
+  @Test
+  @DisplayName("파티션을 맞바꾸기 전에 실패하면 빈 보관 테이블을 지우고 파티션은 남김")
+  void archivePartitionFailureTest() {
+    // given
+    String partition = ExamPartitionDdlService.partitionName("exam");
+    stubExists("student_score", partition);
+    Mockito.when(jdbcTemplate.queryForList(Mockito.anyString(), Mockito.eq(Integer.class)))
+        .thenReturn(List.of(1));
+    Mockito.doThrow(new DataIntegrityViolationException("lock"))
+        .when(jdbcTemplate)
+        .execute(Mockito.contains("EXCHANGE PARTITION"));
+
+    // when
+    Assertions.assertThrows(
+        DataIntegrityViolationException.class,
+        () -> examPartitionDdlService.archivePartitions("exam", 1700000000L));
+
+    // then
+    InOrder inOrder = Mockito.inOrder(jdbcTemplate);
+    inOrder
+        .verify(jdbcTemplate)
+        .execute(Mockito.startsWith("LOCK TABLES student_score WRITE, student_score_archive_"));
+    inOrder.verify(jdbcTemplate).execute("UNLOCK TABLES");
+    inOrder.verify(jdbcTemplate).execute(Mockito.startsWith("DROP TABLE IF EXISTS student_score_"));
+    Mockito.verify(jdbcTemplate, Mockito.never()).execute(Mockito.contains("DROP PARTITION"));
+    Mockito.verify(jdbcTemplate).execute("SET SESSION lock_wait_timeout = DEFAULT");
+  }
+
+  @Test
+  @DisplayName("맞바꾼 뒤 파티션 삭제가 실패하면 행이 옮겨진 보관 테이블은 지우지 않음")
+  void archivePartitionDropFailureTest() {
+    // given
+    String partition = ExamPartitionDdlService.partitionName("exam");
+    stubExists("student_score", partition);
+    Mockito.when(jdbcTemplate.queryForList(Mockito.anyString(), Mockito.eq(Integer.class)))
+        .thenReturn(List.of(1));
+    Mockito.doThrow(new DataIntegrityViolationException("lock"))
+        .when(jdbcTemplate)
+        .execute(Mockito.contains("DROP PARTITION"));
+
+    // when
+    Assertions.assertThrows(
+        DataIntegrityViolationException.class,
+        () -> examPartitionDdlService.archivePartitions("exam", 1700000000L));
+
+    // then
+    // 비어 있는지 확인할 때와 맞바꿀 때 잡은 락을 모두 푼다
+    Mockito.verify(jdbcTemplate, Mockito.times(2)).execute("UNLOCK TABLES");
+    Mockito.verify(jdbcTemplate, Mockito.never()).execute(Mockito.startsWith("DROP TABLE"));
+  }
+
+  private void stubExists(String table, String partition) {
+    Mockito.when(
+            jdbcTemplate.queryForObject(
+                Mockito.anyString(),
+                Mockito.eq(Integer.class),
+                Mockito.eq(table),
+                Mockito.eq(partition)))
+        .thenReturn(1);
+  }
+}
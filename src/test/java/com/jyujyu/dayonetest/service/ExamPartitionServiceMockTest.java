@@ -0,0 +1,137 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.exception.ExamPartitionChangedException;
+import com.jyujyu.dayonetest.exception.UnknownExamException;
+import java.sql.SQLException;
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ExamPartitionServiceMockTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private ExamPartitionService examPartitionService;
+
+  @BeforeEach
+  void beforeEach() {
+    jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+    examPartitionService = createService(true);
+  }
+
+  @Test
+  @DisplayName("등록되지 않은 시험의 첫 쓰기는 등록 DDL 을 백그라운드에서 돌린 뒤 진행하고, 다음 쓰기는 다시 조회하지 않음")
+  void requirePartitionAutoRegisterTest() {
+    // given
+    String partition = ExamPartitionDdlService.partitionName("new");
+    Mockito.when(
+            jdbcTemplate.queryForObject(
+                Mockito.anyString(), Mockito.eq(Integer.class), Mockito.eq(partition)))
+        .thenReturn(0);
+
+    // when
+    examPartitionService.requirePartition("new");
+    examPartitionService.requirePartition("new");
+
+    // then
+    for (String table : ExamPartitionDdlService.TABLES) {
+      Mockito.verify(jdbcTemplate)
+          .execute(
+              "ALTER TABLE "
+                  + table
+                  + " ADD PARTITION (PARTITION "
+                  + partition
+                  + " VALUES IN ('new'))");
+    }
+    Mockito.verify(jdbcTemplate)
+        .queryForObject(Mockito.anyString(), Mockito.eq(Integer.class), Mockito.eq(partition));
+  }
+
+  @Test
+  @DisplayName("쓰기가 1526 으로 실패하면 트랜잭션 안에서 등록을 기다리지 않고, 등록만 시작한 뒤 재시도를 알림")
+  void translateWriteFailureAutoRegisterTest() {
+    // given
+    String partition = ExamPartitionDdlService.partitionName("exam");
+    Mockito.when(
+            jdbcTemplate.queryForObject(
+                Mockito.anyString(), Mockito.eq(Integer.class), Mockito.eq(partition)))
+        .thenReturn(0);
+    var noPartition =
+        new UncategorizedSQLException(
+            "upsert", "INSERT", new SQLException("Table has no partition", "HY000", 1526));
+
+    // when
+    RuntimeException exception = examPartitionService.translateWriteFailure("exam", noPartition);
+
+    // then
+    Assertions.assertInstanceOf(ExamPartitionChangedException.class, exception);
+    Mockito.verify(jdbcTemplate, Mockito.timeout(1000))
+        .execute(
+            Mockito.startsWith("ALTER TABLE student_fail ADD PARTITION (PARTITION " + partition));
+  }
+
+  @Test
+  @DisplayName("자동 등록을 끄면 등록되지 않은 시험의 쓰기는 DDL 없이 거절")
+  void requirePartitionUnknownExamTest() {
+    // given : 세 테이블 중 하나에만 파티션이 있는 경우
+    examPartitionService = createService(false);
+    Mockito.when(
+            jdbcTemplate.queryForObject(
+                Mockito.anyString(), Mockito.eq(Integer.class), Mockito.anyString()))
+        .thenReturn(1);
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            UnknownExamException.class, () -> examPartitionService.requirePartition("exam"));
+
+    // then
+    Assertions.assertEquals("exam", exception.getExam());
+    Mockito.verify(jdbcTemplate, Mockito.never()).execute(Mockito.anyString());
+  }
+
+  @Test
+  @DisplayName("자동 등록을 끄면 캐시된 시험의 쓰기가 1526 으로 실패했을 때 캐시를 비우고 다시 확인해 등록되지 않은 시험 예외로 바꿈")
+  void translateWriteFailureTest() {
+    // given : 이 노드가 등록을 확인한 뒤 다른 노드가 파티션을 지운 경우
+    examPartitionService = createService(false);
+    String partition = ExamPartitionDdlService.partitionName("exam");
+    Mockito.when(
+            jdbcTemplate.queryForObject(
+                Mockito.anyString(), Mockito.eq(Integer.class), Mockito.eq(partition)))
+        .thenReturn(3, 0);
+    examPartitionService.requirePartition("exam");
+    var noPartition =
+        new UncategorizedSQLException(
+            "upsert", "INSERT", new SQLException("Table has no partition", "HY000", 1526));
+    var duplicate = new DataIntegrityViolationException("duplicate");
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            UnknownExamException.class,
+            () -> {
+              throw examPartitionService.translateWriteFailure("exam", noPartition);
+            });
+
+    // then
+    Assertions.assertEquals("exam", exception.getExam());
+    Assertions.assertSame(duplicate, examPartitionService.translateWriteFailure("exam", duplicate));
+    Assertions.assertThrows(
+        UnknownExamException.class, () -> examPartitionService.requirePartition("exam"));
+  }
+
+  private ExamPartitionService createService(boolean autoRegister) {
+    return new ExamPartitionService(
+        jdbcTemplate,
+        new ExamPartitionDdlService(
+            jdbcTemplate, Mockito.mock(PlatformTransactionManager.class), Duration.ofSeconds(5)),
+        autoRegister);
+  }
+}
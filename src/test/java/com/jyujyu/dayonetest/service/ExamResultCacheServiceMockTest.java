@@ -0,0 +1,178 @@
+package com.jyujyu.dayonetest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.unit.DataSize;
+
+class ExamResultCacheServiceMockTest {
+
+  private RedisService redisService;
+  private ExamResultCacheService examResultCacheService;
+
+  @BeforeEach
+  void beforeEach() {
+    redisService = Mockito.mock(RedisService.class);
+    examResultCacheService =
+        new ExamResultCacheService(
+            new NearCacheService(
+                redisService,
+                new SimpleMeterRegistry(),
+                DataSize.ofKilobytes(100),
+                Duration.ofSeconds(5)),
+            new ObjectMapper().registerModule(new ParameterNamesModule()));
+  }
+
+  @Test
+  @DisplayName("캐시에 값이 있으면 DB 를 조회하지 않음")
+  void cacheHitTest() {
+    // given
+    String key = ExamResultCacheService.passKey("testExam");
+    Mockito.when(redisService.get(key))
+        .thenReturn("[{\"studentName\":\"jyujyu\",\"avgScore\":80.0}]");
+
+    // when
+    List<ExamPassStudentResponse> responses =
+        examResultCacheService.getOrLoad(
+            key, ExamPassStudentResponse.class, () -> Assertions.fail("캐시 적중 시 loader 를 호출하면 안됨"));
+
+    // then
+    Assertions.assertIterableEquals(
+        List.of(new ExamPassStudentResponse("jyujyu", 80.0)), responses);
+  }
+
+  @Test
+  @DisplayName("캐시에 값이 없으면 DB 에서 읽어 캐시에 저장")
+  void cacheMissTest() {
+    // given
+    String key = ExamResultCacheService.passKey("testExam");
+    var expectResponses = List.of(new ExamPassStudentResponse("jyujyu", 80.0));
+
+    // when
+    var responses =
+        examResultCacheService.getOrLoad(key, ExamPassStudentResponse.class, () -> expectResponses);
+
+    // then
+    Assertions.assertIterableEquals(expectResponses, responses);
+    Mockito.verify(redisService, Mockito.times(1))
+        .execute(
+            Mockito.<RedisScript<Long>>any(),
+            Mockito.eq(List.of(key, NearCacheService.generationKey(key))),
+            Mockito.eq("[{\"studentName\":\"jyujyu\",\"avgScore\":80.0}]"),
+            Mockito.anyString(),
+            Mockito.eq(""));
+  }
+
+  @Test
+  @DisplayName("DB 를 읽는 동안 캐시가 삭제되어 세대가 바뀌면 읽은 값을 캐시에 남기지 않음")
+  void staleLoadTest() {
+    // given : 조회 시작 때 세대는 3 이었고, 저장 스크립트는 세대가 바뀌어 0 을 돌려줌
+    String key = ExamResultCacheService.passKey("testExam");
+    Mockito.when(redisService.get(NearCacheService.generationKey(key))).thenReturn("3");
+    Mockito.when(
+            redisService.execute(
+                Mockito.<RedisScript<Long>>any(),
+                Mockito.anyList(),
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyString()))
+        .thenReturn(0L);
+    var loads = new AtomicInteger();
+
+    // when
+    examResultCacheService.getOrLoad(
+        key, String.class, () -> List.of("v" + loads.incrementAndGet()));
+    var responses =
+        examResultCacheService.getOrLoad(
+            key, String.class, () -> List.of("v" + loads.incrementAndGet()));
+
+    // then
+    Assertions.assertEquals(List.of("v2"), responses);
+    Mockito.verify(redisService, Mockito.times(2))
+        .execute(
+            Mockito.<RedisScript<Long>>any(),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.eq("3"));
+  }
+
+  @Test
+  @DisplayName("같은 키를 동시에 놓친 요청은 DB 조회 한 번의 결과를 함께 씀")
+  void singleFlightTest() throws Exception {
+    // given
+    String key = ExamResultCacheService.passKey("testExam");
+    var release = new CountDownLatch(1);
+    var loads = new AtomicInteger();
+    Supplier<List<String>> loader =
+        () -> {
+          loads.incrementAndGet();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return List.of("loaded");
+        };
+
+    // when
+    var first =
+        CompletableFuture.supplyAsync(
+            () -> examResultCacheService.getOrLoad(key, String.class, loader));
+    Mockito.verify(redisService, Mockito.timeout(1000)).get(NearCacheService.generationKey(key));
+    var second =
+        CompletableFuture.supplyAsync(
+            () -> examResultCacheService.getOrLoad(key, String.class, loader));
+    Mockito.verify(redisService, Mockito.timeout(1000).times(2)).get(key);
+    Thread.sleep(100);
+    release.countDown();
+
+    // then
+    Assertions.assertEquals(List.of("loaded"), first.get(1, TimeUnit.SECONDS));
+    Assertions.assertEquals(List.of("loaded"), second.get(1, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, loads.get());
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시에도 DB 조회 결과를 반환")
+  void redisFailureTest() {
+    // given
+    String key = ExamResultCacheService.failKey("testExam");
+    Mockito.when(redisService.get(key)).thenThrow(new RedisConnectionFailureException("down"));
+
+    // when
+    var responses = examResultCacheService.getOrLoad(key, String.class, () -> List.of("loaded"));
+
+    // then
+    Assertions.assertIterableEquals(List.of("loaded"), responses);
+  }
+
+  @Test
+  @DisplayName("Redis 장애로 캐시 삭제에 실패해도 예외를 전파하지 않음")
+  void evictRedisFailureTest() {
+    // given
+    String passKey = ExamResultCacheService.passKey("testExam");
+    String failKey = ExamResultCacheService.failKey("testExam");
+    Mockito.doThrow(new RedisConnectionFailureException("down"))
+        .when(redisService)
+        .delete(List.of(passKey, failKey));
+
+    // when & then
+    Assertions.assertDoesNotThrow(() -> examResultCacheService.evict(passKey, failKey));
+  }
+}
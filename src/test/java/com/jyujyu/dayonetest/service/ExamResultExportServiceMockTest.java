@@ -0,0 +1,134 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import com.jyujyu.dayonetest.model.StudentScore;
+import com.jyujyu.dayonetest.repository.StudentFailRepository;
+import com.jyujyu.dayonetest.repository.StudentPassRepository;
+import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import com.jyujyu.dayonetest.support.S3MultipartOutputStream;
+import com.jyujyu.dayonetest.support.S3MultipartSettings;
+import com.jyujyu.dayonetest.support.S3MultipartUpload;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+class ExamResultExportServiceMockTest {
+
+  private ExamResultExportService examResultExportService;
+  private StudentScoreRepository studentScoreRepository;
+  private StudentPassRepository studentPassRepository;
+  private StudentFailRepository studentFailRepository;
+  private S3Service s3Service;
+  private EntityManager entityManager;
+  private Map<String, ByteArrayOutputStream> uploadedObjects;
+
+  @BeforeEach
+  void beforeEach() {
+    studentScoreRepository = Mockito.mock(StudentScoreRepository.class);
+    studentPassRepository = Mockito.mock(StudentPassRepository.class);
+    studentFailRepository = Mockito.mock(StudentFailRepository.class);
+    s3Service = Mockito.mock(S3Service.class);
+    entityManager = Mockito.mock(EntityManager.class);
+    uploadedObjects = new HashMap<>();
+
+    S3Client s3Client = Mockito.mock(S3Client.class);
+    Mockito.when(s3Client.createMultipartUpload(Mockito.any(CreateMultipartUploadRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              CreateMultipartUploadRequest request = invocation.getArgument(0);
+              uploadedObjects.put(request.key(), new ByteArrayOutputStream());
+              return CreateMultipartUploadResponse.builder().uploadId(request.key()).build();
+            });
+    Mockito.when(
+            s3Client.uploadPart(
+                Mockito.any(UploadPartRequest.class), Mockito.any(RequestBody.class)))
+        .thenAnswer(
+            invocation -> {
+              UploadPartRequest request = invocation.getArgument(0);
+              RequestBody body = invocation.getArgument(1);
+              try (InputStream in = body.contentStreamProvider().newStream()) {
+                in.transferTo(uploadedObjects.get(request.key()));
+              }
+              return UploadPartResponse.builder().eTag("etag").build();
+            });
+    Mockito.when(s3Service.openMultipartOutputStream(Mockito.anyString(), Mockito.anyString()))
+        .thenAnswer(
+            invocation ->
+                new S3MultipartOutputStream(
+                    S3MultipartUpload.start(
+                        s3Client, invocation.getArgument(0), invocation.getArgument(1), 1),
+                    new S3MultipartSettings(16, 1, 1),
+                    Runnable::run));
+
+    examResultExportService =
+        new ExamResultExportService(
+            studentScoreRepository,
+            studentPassRepository,
+            studentFailRepository,
+            s3Service,
+            entityManager);
+  }
+
+  @Test
+  @DisplayName("시험 결과를 테이블별 gzip CSV 로 스트리밍해 S3 에 업로드")
+  void exportTest() throws IOException {
+    // given
+    String givenTestExam = "testexam";
+    StudentScore score =
+        StudentScore.builder()
+            .exam(givenTestExam)
+            .studentName("kim, \"jr\"")
+            .korScore(80)
+            .englishScore(70)
+            .mathScore(60)
+            .build();
+
+    Mockito.when(studentScoreRepository.streamByExamOrderById(givenTestExam))
+        .thenReturn(Stream.of(score));
+    Mockito.when(studentPassRepository.streamByExamOrderById(givenTestExam))
+        .thenReturn(Stream.of(new ExamPassStudentResponse("kim", 70.0)));
+    Mockito.when(studentFailRepository.streamByExamOrderById(givenTestExam))
+        .thenReturn(Stream.empty());
+
+    // when
+    var response = examResultExportService.export(givenTestExam, "bucket", "exports/");
+
+    // then
+    Assertions.assertEquals(
+        Map.of("student_score", 1L, "student_pass", 1L, "student_fail", 0L),
+        response.getRowCounts());
+    Assertions.assertEquals(
+        "student_name,kor_score,english_score,math_score\n\"kim, \"\"jr\"\"\",80,70,60\n",
+        gunzip("exports/testexam/student_score.csv.gz"));
+    Assertions.assertEquals(
+        "student_name,avg_score\nkim,70.0\n", gunzip("exports/testexam/student_pass.csv.gz"));
+    Assertions.assertEquals(
+        "student_name,avg_score\n", gunzip("exports/testexam/student_fail.csv.gz"));
+    Mockito.verify(entityManager).detach(score);
+  }
+
+  private String gunzip(String key) throws IOException {
+    byte[] compressed = uploadedObjects.get(key).toByteArray();
+    try (var in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
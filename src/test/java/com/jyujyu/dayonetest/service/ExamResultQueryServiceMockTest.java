@@ -0,0 +1,131 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.response.ExamFailStudentResponse;
+import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import com.jyujyu.dayonetest.model.StudentFail;
+import com.jyujyu.dayonetest.model.StudentPass;
+import com.jyujyu.dayonetest.repository.StudentFailRepository;
+import com.jyujyu.dayonetest.repository.StudentPassRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+
+class ExamResultQueryServiceMockTest {
+
+  private ExamResultQueryService examResultQueryService;
+  private StudentPassRepository studentPassRepository;
+  private StudentFailRepository studentFailRepository;
+
+  @BeforeEach
+  void beforeEach() {
+    studentPassRepository = Mockito.mock(StudentPassRepository.class);
+    studentFailRepository = Mockito.mock(StudentFailRepository.class);
+    examResultQueryService =
+        new ExamResultQueryService(studentPassRepository, studentFailRepository);
+  }
+
+  @Test
+  @DisplayName("합격자 명단 페이지 조회 / 페이지가 가득 차면 마지막 id를 다음 커서로 반환")
+  void getPassStudentsPageTest() {
+    // given
+    String givenTestExam = "testexam";
+    StudentPass student1 =
+        StudentPass.builder().id(11L).exam(givenTestExam).studentName("a").avgScore(70).build();
+    StudentPass student2 =
+        StudentPass.builder().id(12L).exam(givenTestExam).studentName("b").avgScore(80).build();
+
+    Mockito.when(
+            studentPassRepository.findByExamAndIdGreaterThanOrderByIdAsc(
+                givenTestExam, 10L, Limit.of(2)))
+        .thenReturn(List.of(student1, student2));
+
+    // when
+    var response = examResultQueryService.getPassStudentsPage(givenTestExam, 10L, 2);
+
+    // then
+    Assertions.assertEquals(12L, response.getNextCursor());
+    Assertions.assertIterableEquals(
+        List.of(new ExamPassStudentResponse("a", 70.0), new ExamPassStudentResponse("b", 80.0)),
+        response.getStudents());
+  }
+
+  @Test
+  @DisplayName("불합격자 명단 페이지 조회 / 마지막 페이지면 다음 커서가 없음")
+  void getFailStudentsPageTest() {
+    // given
+    String givenTestExam = "testexam";
+    StudentFail student =
+        StudentFail.builder().id(21L).exam(givenTestExam).studentName("c").avgScore(40).build();
+
+    Mockito.when(
+            studentFailRepository.findByExamAndIdGreaterThanOrderByIdAsc(
+                givenTestExam, 0L, Limit.of(100)))
+        .thenReturn(List.of(student));
+
+    // when
+    var response = examResultQueryService.getFailStudentsPage(givenTestExam, 0L, 100);
+
+    // then
+    Assertions.assertNull(response.getNextCursor());
+    Assertions.assertIterableEquals(
+        List.of(new ExamFailStudentResponse("c", 40.0)), response.getStudents());
+  }
+
+  @Test
+  @DisplayName("명단 페이지 조회 / size가 0 이하면 1건으로, 최대치를 넘으면 최대치로 보정")
+  void getStudentsPageClampSizeTest() {
+    // given
+    String givenTestExam = "testexam";
+    StudentPass student =
+        StudentPass.builder().id(11L).exam(givenTestExam).studentName("a").avgScore(70).build();
+
+    Mockito.when(
+            studentPassRepository.findByExamAndIdGreaterThanOrderByIdAsc(
+                givenTestExam, 0L, Limit.of(1)))
+        .thenReturn(List.of(student));
+    Mockito.when(
+            studentFailRepository.findByExamAndIdGreaterThanOrderByIdAsc(
+                givenTestExam, 0L, Limit.of(1000)))
+        .thenReturn(List.of());
+
+    // when
+    var zeroSizeResponse = examResultQueryService.getPassStudentsPage(givenTestExam, 0L, 0);
+    var negativeSizeResponse = examResultQueryService.getPassStudentsPage(givenTestExam, 0L, -5);
+    var oversizeResponse = examResultQueryService.getFailStudentsPage(givenTestExam, 0L, 5000);
+
+    // then
+    Assertions.assertEquals(11L, zeroSizeResponse.getNextCursor());
+    Assertions.assertEquals(11L, negativeSizeResponse.getNextCursor());
+    Assertions.assertNull(oversizeResponse.getNextCursor());
+    Assertions.assertTrue(oversizeResponse.getStudents().isEmpty());
+  }
+
+  @Test
+  @DisplayName("합격자/불합격자 명단 스트리밍 조회")
+  void streamStudentsTest() {
+    // given
+    String givenTestExam = "testexam";
+    var passes = List.of(new ExamPassStudentResponse("a", 70.0));
+    var fails = List.of(new ExamFailStudentResponse("b", 30.0));
+
+    Mockito.when(studentPassRepository.streamByExamOrderById(givenTestExam))
+        .thenReturn(passes.stream());
+    Mockito.when(studentFailRepository.streamByExamOrderById(givenTestExam))
+        .thenReturn(fails.stream());
+
+    // when
+    List<ExamPassStudentResponse> streamedPasses = new ArrayList<>();
+    List<ExamFailStudentResponse> streamedFails = new ArrayList<>();
+    examResultQueryService.streamPassStudents(givenTestExam, streamedPasses::add);
+    examResultQueryService.streamFailStudents(givenTestExam, streamedFails::add);
+
+    // then
+    Assertions.assertIterableEquals(passes, streamedPasses);
+    Assertions.assertIterableEquals(fails, streamedFails);
+  }
+}
@@ -0,0 +1,57 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.IntegrationTest;
+import com.jyujyu.dayonetest.support.CsvWriter;
+import java.io.IOException;
+import java.util.Random;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Tag("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExamScoreImportServiceBenchmarkTest extends IntegrationTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+
+  @Autowired private ExamScoreImportService examScoreImportService;
+
+  @Autowired private S3Service s3Service;
+
+  @Autowired private ExamPartitionService examPartitionService;
+
+  @Test
+  @DisplayName("S3 gzip CSV 일괄 import 의 초당 처리 행 수 측정")
+  void importScoresTest() throws IOException {
+    // given
+    var bucket = "test-bucket";
+    var key = "benchmark-import-" + UUID.randomUUID() + ".csv.gz";
+    var random = new Random(0);
+    var exam = "import-" + UUID.randomUUID();
+    examPartitionService.createPartition(exam);
+
+    try (var csv =
+        new CsvWriter(new GZIPOutputStream(s3Service.openMultipartOutputStream(bucket, key)))) {
+      csv.writeHeader(ExamResultExportService.SCORE_HEADER);
+      for (int i = 0; i < ROWS; i++) {
+        csv.writeRow("student" + i, random.nextInt(101), random.nextInt(101), random.nextInt(101));
+      }
+    }
+
+    // when
+    var response = examScoreImportService.importScores(exam, bucket, key, 0);
+
+    // then
+    System.out.printf(
+        "[benchmark] rows=%d elapsed=%dms import=%.0f rows/s%n",
+        response.getRows(), response.getElapsedMillis(), response.getRowsPerSecond());
+
+    Assertions.assertEquals(ROWS, response.getRows());
+  }
+}
@@ -0,0 +1,142 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
+import com.jyujyu.dayonetest.exception.ExamImportException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ExamScoreImportServiceMockTest {
+
+  private ExamScoreImportService examScoreImportService;
+  private StudentScoreService studentScoreService;
+  private S3Service s3Service;
+
+  @BeforeEach
+  void beforeEach() {
+    studentScoreService = Mockito.mock(StudentScoreService.class);
+    s3Service = Mockito.mock(S3Service.class);
+    examScoreImportService = new ExamScoreImportService(studentScoreService, s3Service);
+  }
+
+  @Test
+  @DisplayName("gzip CSV 를 한 줄씩 읽어 1000건 단위로 일괄 저장")
+  void importScoresTest() throws IOException {
+    // given
+    String givenTestExam = "testexam";
+    var csv = new StringBuilder("student_name,kor_score,english_score,math_score\n");
+    csv.append("\"kim, \"\"jr\"\"\",80,70,60\n");
+    for (int i = 1; i < 1500; i++) {
+      csv.append("student").append(i).append(",50,60,70\n");
+    }
+
+    byte[] gzipped = gzip(csv.toString());
+    Mockito.when(s3Service.openStream("bucket", "scores.csv.gz"))
+        .thenAnswer(invocation -> new ByteArrayInputStream(gzipped));
+
+    List<List<SaveExamScoreRequest>> batches = new ArrayList<>();
+    Mockito.doAnswer(invocation -> batches.add(List.copyOf(invocation.getArgument(1))))
+        .when(studentScoreService)
+        .saveScores(Mockito.eq(givenTestExam), Mockito.anyList());
+
+    // when
+    var response = examScoreImportService.importScores(givenTestExam, "bucket", "scores.csv.gz", 0);
+
+    // then
+    Assertions.assertEquals(1500, response.getRows());
+    Assertions.assertEquals(1500, response.getCommittedRows());
+    Assertions.assertEquals(List.of(1000, 500), batches.stream().map(List::size).toList());
+
+    SaveExamScoreRequest first = batches.get(0).get(0);
+    Assertions.assertEquals("kim, \"jr\"", first.getStudentName());
+    Assertions.assertEquals(80, first.getKorScore());
+    Assertions.assertEquals(70, first.getEnglishScore());
+    Assertions.assertEquals(60, first.getMathScore());
+  }
+
+  @Test
+  @DisplayName("헤더가 다르거나 점수가 숫자가 아니면 저장하지 않고 예외")
+  void invalidCsvTest() {
+    // given
+    Mockito.when(s3Service.openStream("bucket", "header.csv"))
+        .thenReturn(new ByteArrayInputStream("name,score\n".getBytes(StandardCharsets.UTF_8)));
+    // 잘못된 행이 첫 배치 뒤에 있어도 아무것도 저장하지 않는다
+    var csv = new StringBuilder("student_name,kor_score,english_score,math_score\n");
+    for (int i = 0; i < 1500; i++) {
+      csv.append("student").append(i).append(",50,60,70\n");
+    }
+    csv.append("kim,80,x,60\n");
+    Mockito.when(s3Service.openStream("bucket", "score.csv"))
+        .thenReturn(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+    // when & then
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> examScoreImportService.importScores("testexam", "bucket", "header.csv", 0));
+    var exception =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> examScoreImportService.importScores("testexam", "bucket", "score.csv", 0));
+    Assertions.assertEquals("invalid score at line 1502", exception.getMessage());
+    Mockito.verify(studentScoreService, Mockito.never())
+        .saveScores(Mockito.anyString(), Mockito.anyList());
+  }
+
+  @Test
+  @DisplayName("저장 도중 실패하면 커밋된 행 수를 알려주고, 그 행부터 다시 import 할 수 있음")
+  void resumeImportTest() {
+    // given
+    var csv = new StringBuilder("student_name,kor_score,english_score,math_score\n");
+    for (int i = 0; i < 2500; i++) {
+      csv.append("student").append(i).append(",50,60,70\n");
+    }
+    byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+    Mockito.when(s3Service.openStream("bucket", "scores.csv"))
+        .thenAnswer(invocation -> new ByteArrayInputStream(bytes));
+
+    List<String> firstStudents = new ArrayList<>();
+    Mockito.doAnswer(
+            invocation ->
+                firstStudents.add(
+                    invocation.<List<SaveExamScoreRequest>>getArgument(1).get(0).getStudentName()))
+        .doThrow(new IllegalStateException("db down"))
+        .doAnswer(
+            invocation ->
+                firstStudents.add(
+                    invocation.<List<SaveExamScoreRequest>>getArgument(1).get(0).getStudentName()))
+        .when(studentScoreService)
+        .saveScores(Mockito.eq("testexam"), Mockito.anyList());
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            ExamImportException.class,
+            () -> examScoreImportService.importScores("testexam", "bucket", "scores.csv", 0));
+    var response =
+        examScoreImportService.importScores(
+            "testexam", "bucket", "scores.csv", exception.getCommittedRows());
+
+    // then
+    Assertions.assertEquals(1000, exception.getCommittedRows());
+    Assertions.assertEquals(1500, response.getRows());
+    Assertions.assertEquals(2500, response.getCommittedRows());
+    Assertions.assertEquals(List.of("student0", "student1000", "student2000"), firstStudents);
+  }
+
+  private byte[] gzip(String text) throws IOException {
+    var bytes = new ByteArrayOutputStream();
+    try (var out = new GZIPOutputStream(bytes)) {
+      out.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+    return bytes.toByteArray();
+  }
+}
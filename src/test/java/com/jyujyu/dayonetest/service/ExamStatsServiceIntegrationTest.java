@@ -0,0 +1,78 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.IntegrationTest;
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 통계는 커밋 이후에 갱신되므로 테스트 트랜잭션 없이 실제로 커밋한다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExamStatsServiceIntegrationTest extends IntegrationTest {
+
+  @Autowired private StudentScoreService studentScoreService;
+
+  @Autowired private ExamStatsService examStatsService;
+
+  @Autowired private ExamPartitionService examPartitionService;
+
+  @Test
+  @DisplayName("점수 저장 시 갱신된 통계와 DB 집계로 backfill 한 통계가 같다")
+  void statsAndBackfillTest() {
+    // given
+    String exam = "stats-" + UUID.randomUUID();
+    examPartitionService.createPartition(exam);
+    studentScoreService.saveScores(
+        exam,
+        List.of(
+            new SaveExamScoreRequest("a", 100, 80, 60), new SaveExamScoreRequest("b", 40, 50, 60)));
+    studentScoreService.saveScore(exam, "c", 70, 70, 70);
+
+    // when
+    var incremental = examStatsService.getStats(exam);
+    long backfilled = examStatsService.backfill(exam);
+    var rebuilt = examStatsService.getStats(exam);
+
+    // then
+    Assertions.assertEquals(3, incremental.getCount());
+    Assertions.assertEquals(2, incremental.getPassCount());
+    Assertions.assertEquals(70.0, incremental.getSubjects().get("kor").getMean());
+    Assertions.assertEquals(40, incremental.getSubjects().get("kor").getMin());
+    Assertions.assertEquals(240, incremental.getSubjects().get("total").getMax());
+
+    Assertions.assertEquals(3, backfilled);
+    Assertions.assertEquals(incremental, rebuilt);
+  }
+
+  @Test
+  @DisplayName("재제출하면 이전 점수를 빼고 새 점수를 더해 증분으로 맞추고, 최솟값/최댓값은 넓히기만 한다")
+  void resubmitStatsTest() {
+    // given
+    String exam = "stats-" + UUID.randomUUID();
+    examPartitionService.createPartition(exam);
+    studentScoreService.saveScore(exam, "a", 100, 100, 100);
+
+    // when
+    studentScoreService.saveScores(
+        exam,
+        List.of(
+            new SaveExamScoreRequest("a", 10, 20, 30), new SaveExamScoreRequest("b", 70, 70, 70)));
+
+    // then
+    var stats = examStatsService.getStats(exam);
+    Assertions.assertEquals(2, stats.getCount());
+    Assertions.assertEquals(1, stats.getPassCount());
+    Assertions.assertEquals(40.0, stats.getSubjects().get("kor").getMean());
+    Assertions.assertEquals(100, stats.getSubjects().get("kor").getMax());
+
+    var kor = examStatsService.getDistribution(exam).getSubjects().get("kor");
+    Assertions.assertEquals(2, kor.getCount());
+    Assertions.assertEquals(0L, kor.getHistogram().get(100));
+    Assertions.assertEquals(1L, kor.getHistogram().get(10));
+  }
+}
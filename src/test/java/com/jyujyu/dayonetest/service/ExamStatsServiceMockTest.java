@@ -0,0 +1,184 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.model.ExamScoreSummary;
+import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import com.jyujyu.dayonetest.support.ScoreAggregate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class ExamStatsServiceMockTest {
+
+  private ExamStatsService examStatsService;
+  private RedisService redisService;
+  private StudentScoreRepository studentScoreRepository;
+
+  @BeforeEach
+  void beforeEach() {
+    redisService = Mockito.mock(RedisService.class);
+    studentScoreRepository = Mockito.mock(StudentScoreRepository.class);
+    examStatsService = new ExamStatsService(redisService, studentScoreRepository);
+  }
+
+  @Test
+  @DisplayName("점수 묶음을 집계해 한 번의 스크립트 호출로 통계 해시에 병합")
+  void recordTest() {
+    // given
+    var aggregate = ScoreAggregate.of(100, 80, 60);
+    aggregate.add(40, 50, 60);
+
+    // when
+    examStatsService.record("testexam", aggregate);
+
+    // then
+    // replace, count, pass 다음에 kor, english, math, total 순서로 sum, sq, min, max
+    List<String> args = List.of(captureScriptArgs());
+    Assertions.assertEquals(List.of("0", "2", "1"), args.subList(0, 3));
+    Assertions.assertEquals(List.of("140", "11600", "40", "100"), args.subList(3, 7));
+    Assertions.assertEquals(List.of("130", "8900", "50", "80"), args.subList(7, 11));
+    Assertions.assertEquals(List.of("120", "7200", "60", "60"), args.subList(11, 15));
+    Assertions.assertEquals(List.of("390", "80100", "150", "240"), args.subList(15, 19));
+    Assertions.assertEquals(
+        List.of(
+            "kor:40",
+            "1",
+            "kor:100",
+            "1",
+            "english:50",
+            "1",
+            "english:80",
+            "1",
+            "math:60",
+            "2",
+            "total:150",
+            "1",
+            "total:240",
+            "1"),
+        args.subList(19, args.size()));
+  }
+
+  @Test
+  @DisplayName("Redis 장애로 통계 갱신이 실패해도 예외를 전파하지 않음")
+  void recordFailureTest() {
+    Mockito.when(
+            redisService.execute(
+                Mockito.<RedisScript<Long>>any(), Mockito.anyList(), Mockito.any(String[].class)))
+        .thenThrow(new RedisConnectionFailureException("down"));
+
+    Assertions.assertDoesNotThrow(
+        () -> examStatsService.record("testexam", ScoreAggregate.of(1, 2, 3)));
+  }
+
+  @Test
+  @DisplayName("통계 해시에서 평균, 표준편차, 합격률을 계산")
+  void getStatsTest() {
+    // given
+    Map<String, String> hash = new HashMap<>(Map.of("count", "2", "pass", "1"));
+    for (String subject : ScoreAggregate.SUBJECTS) {
+      hash.putAll(
+          Map.of(
+              subject + ":sum", "140",
+              subject + ":sq", "11600",
+              subject + ":min", "40",
+              subject + ":max", "100"));
+    }
+    Mockito.when(redisService.hashGetAll(ExamStatsService.statsKey("testexam"))).thenReturn(hash);
+
+    // when
+    var stats = examStatsService.getStats("testexam");
+
+    // then
+    Assertions.assertEquals(2, stats.getCount());
+    Assertions.assertEquals(0.5, stats.getPassRate());
+    var kor = stats.getSubjects().get("kor");
+    Assertions.assertEquals(70.0, kor.getMean());
+    Assertions.assertEquals(30.0, kor.getStddev());
+    Assertions.assertEquals(40, kor.getMin());
+    Assertions.assertEquals(100, kor.getMax());
+  }
+
+  @Test
+  @DisplayName("히스토그램 해시에서 과목별 분포와 중앙값, p90 을 계산")
+  void getDistributionTest() {
+    // given
+    Mockito.when(redisService.hashGetAll(ExamStatsService.histogramKey("testexam")))
+        .thenReturn(Map.of("kor:50", "5", "kor:70", "4", "kor:100", "1"));
+
+    // when
+    var distribution = examStatsService.getDistribution("testexam");
+
+    // then
+    Assertions.assertEquals(List.of("kor"), List.copyOf(distribution.getSubjects().keySet()));
+    var kor = distribution.getSubjects().get("kor");
+    Assertions.assertEquals(10, kor.getCount());
+    Assertions.assertEquals(50, kor.getMedian());
+    Assertions.assertEquals(70, kor.getP90());
+    Assertions.assertEquals(101, kor.getHistogram().size());
+    Assertions.assertEquals(4L, kor.getHistogram().get(70));
+  }
+
+  @Test
+  @DisplayName("재제출은 이전 점수를 뺀 증분으로 병합하고, 건수가 그대로인 히스토그램 칸은 보내지 않음")
+  void recordResubmittedTest() {
+    // given : 합격(100, 80, 60)이던 학생이 불합격(40, 50, 60)으로 다시 제출
+    var aggregate = ScoreAggregate.of(40, 50, 60);
+    aggregate.remove(100, 80, 60);
+
+    // when
+    examStatsService.record("testexam", aggregate);
+
+    // then
+    List<String> args = List.of(captureScriptArgs());
+    Assertions.assertEquals(List.of("0", "0", "-1"), args.subList(0, 3));
+    Assertions.assertEquals(List.of("-60", "-8400", "40", "40"), args.subList(3, 7));
+    Assertions.assertEquals(List.of("0", "0", "60", "60"), args.subList(11, 15));
+    Assertions.assertEquals(List.of("kor:40", "1", "kor:100", "-1"), args.subList(19, 23));
+    Assertions.assertFalse(args.contains("math:60"));
+    Assertions.assertFalse(aggregate.isEmpty());
+  }
+
+  @Test
+  @DisplayName("backfill 은 DB 집계 결과로 통계 해시를 덮어씀")
+  void backfillTest() {
+    // given
+    ExamScoreSummary summary = Mockito.mock(ExamScoreSummary.class);
+    Mockito.when(summary.getCount()).thenReturn(2L);
+    Mockito.when(summary.getPassCount()).thenReturn(1L);
+    Mockito.when(summary.getKorSum()).thenReturn(140L);
+    Mockito.when(summary.getKorSquareSum()).thenReturn(11600L);
+    Mockito.when(summary.getKorMin()).thenReturn(40L);
+    Mockito.when(summary.getKorMax()).thenReturn(100L);
+    Mockito.when(studentScoreRepository.summarizeByExam("testexam")).thenReturn(summary);
+
+    // when
+    long count = examStatsService.backfill("testexam");
+
+    // then
+    Assertions.assertEquals(2, count);
+    String[] args = captureScriptArgs();
+    Assertions.assertEquals(
+        List.of("1", "2", "1", "140", "11600", "40", "100"), List.of(args).subList(0, 7));
+  }
+
+  @SuppressWarnings("unchecked")
+  private String[] captureScriptArgs() {
+    ArgumentCaptor<String[]> argsCaptor = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(redisService)
+        .execute(
+            Mockito.any(RedisScript.class),
+            Mockito.eq(
+                List.of(
+                    ExamStatsService.statsKey("testexam"),
+                    ExamStatsService.histogramKey("testexam"))),
+            argsCaptor.capture());
+    return argsCaptor.getValue();
+  }
+}
@@ -0,0 +1,25 @@
+package com.jyujyu.dayonetest.service;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+class KafkaConsumerServiceMockTest {
+
+  @Test
+  @DisplayName("배치로 받은 메시지는 순서대로 처리됨")
+  void processBatchTest() {
+    // given
+    KafkaConsumerService kafkaConsumerService = Mockito.spy(new KafkaConsumerService());
+
+    // when
+    kafkaConsumerService.processBatch(List.of("first", "second"));
+
+    // then
+    InOrder inOrder = Mockito.inOrder(kafkaConsumerService);
+    inOrder.verify(kafkaConsumerService).process("first");
+    inOrder.verify(kafkaConsumerService).process("second");
+  }
+}
@@ -0,0 +1,59 @@
+package com.jyujyu.dayonetest.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+class KafkaProducerServiceMockTest {
+
+  private KafkaTemplate<String, String> kafkaTemplate;
+  private KafkaProducerService kafkaProducerService;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void beforeEach() {
+    kafkaTemplate = Mockito.mock(KafkaTemplate.class);
+    kafkaProducerService = new KafkaProducerService(kafkaTemplate, new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("전송 성공 시 키와 함께 보내고 전달 건수와 지연 시간을 기록")
+  @SuppressWarnings("unchecked")
+  void sendSuccessTest() {
+    // given
+    SendResult<String, String> sendResult = Mockito.mock(SendResult.class);
+    Mockito.when(kafkaTemplate.send("topic", "exam", "message"))
+        .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+    // when
+    var future = kafkaProducerService.send("topic", "exam", "message");
+
+    // then
+    Assertions.assertSame(sendResult, future.join());
+    Assertions.assertEquals(1, kafkaProducerService.deliveredCount());
+    Assertions.assertEquals(0, kafkaProducerService.failedCount());
+    Assertions.assertFalse(kafkaProducerService.maxLatency().isNegative());
+  }
+
+  @Test
+  @DisplayName("전송 실패 시 실패 건수를 기록하고 호출자에게 실패를 전달")
+  void sendFailureTest() {
+    // given
+    Mockito.when(kafkaTemplate.send("topic", null, "message"))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+    // when
+    var future = kafkaProducerService.send("topic", "message");
+
+    // then
+    Assertions.assertTrue(future.isCompletedExceptionally());
+    Assertions.assertEquals(0, kafkaProducerService.deliveredCount());
+    Assertions.assertEquals(1, kafkaProducerService.failedCount());
+  }
+}
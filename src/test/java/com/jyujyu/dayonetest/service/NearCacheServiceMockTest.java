@@ -0,0 +1,101 @@
+package com.jyujyu.dayonetest.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.unit.DataSize;
+
+class NearCacheServiceMockTest {
+
+  private RedisService redisService;
+  private NearCacheService nearCacheService;
+
+  @BeforeEach
+  void beforeEach() {
+    redisService = Mockito.mock(RedisService.class);
+    nearCacheService =
+        new NearCacheService(
+            redisService,
+            new SimpleMeterRegistry(),
+            DataSize.ofKilobytes(100),
+            Duration.ofMinutes(1));
+  }
+
+  @Test
+  @DisplayName("L1 에 적재된 키는 Redis 를 다시 조회하지 않음")
+  void localHitTest() {
+    // given
+    Mockito.when(redisService.get("key")).thenReturn("value");
+
+    // when
+    nearCacheService.get("key");
+    String value = nearCacheService.get("key");
+
+    // then
+    Assertions.assertEquals("value", value);
+    Mockito.verify(redisService, Mockito.times(1)).get("key");
+    Assertions.assertEquals(1, nearCacheService.localStats().hitCount());
+    Assertions.assertEquals(1, nearCacheService.localStats().missCount());
+    Assertions.assertEquals(1, nearCacheService.remoteHitCount());
+    Assertions.assertEquals(0, nearCacheService.remoteMissCount());
+  }
+
+  @Test
+  @DisplayName("L2 에도 없는 키는 L1 에 적재하지 않음")
+  void remoteMissTest() {
+    // when
+    nearCacheService.get("key");
+    nearCacheService.get("key");
+
+    // then
+    Mockito.verify(redisService, Mockito.times(2)).get("key");
+    Assertions.assertEquals(2, nearCacheService.remoteMissCount());
+  }
+
+  @Test
+  @DisplayName("다른 노드의 무효화 메시지는 L1 을 비우고, 자기 자신의 메시지는 무시함")
+  void invalidationTest() {
+    // given
+    ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+    Mockito.when(redisService.get("key")).thenReturn("remote");
+    nearCacheService.set("key", "local", Duration.ofMinutes(1));
+    Mockito.verify(redisService)
+        .publish(Mockito.eq(NearCacheService.INVALIDATION_CHANNEL), messageCaptor.capture());
+
+    // when & then
+    nearCacheService.onInvalidation(messageCaptor.getValue());
+    Assertions.assertEquals("local", nearCacheService.get("key"));
+
+    nearCacheService.onInvalidation("another-node|key");
+    Assertions.assertEquals("remote", nearCacheService.get("key"));
+  }
+
+  @Test
+  @DisplayName("삭제 시 L1, L2 모두에서 제거됨")
+  void deleteTest() {
+    // given
+    nearCacheService.set("key", "value", Duration.ofMinutes(1));
+
+    // when
+    nearCacheService.delete(List.of("key"));
+
+    // then
+    Assertions.assertNull(nearCacheService.get("key"));
+    InOrder inOrder = Mockito.inOrder(redisService);
+    inOrder
+        .verify(redisService)
+        .execute(
+            Mockito.<RedisScript<Long>>any(),
+            Mockito.eq(List.of(NearCacheService.generationKey("key"))),
+            Mockito.anyString());
+    inOrder.verify(redisService).delete(List.of("key"));
+  }
+}
@@ -0,0 +1,67 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.IntegrationTest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Tag("benchmark")
+class RedisServiceBenchmarkTest extends IntegrationTest {
+
+  private static final int KEYS = Integer.getInteger("benchmark.keys", 10000);
+
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  @Autowired private RedisService redisService;
+
+  @Test
+  @DisplayName("단건 Get / Set 과 파이프라인 Multi Get / Multi Set 의 초당 처리 키 수 비교")
+  void singleVersusPipelinedTest() {
+    // given
+    Map<String, String> values = new LinkedHashMap<>();
+    IntStream.range(0, KEYS).forEach(i -> values.put("benchmark:" + i, "value-" + i));
+    Map<String, Duration> ttls = new LinkedHashMap<>();
+    values.keySet().forEach(key -> ttls.put(key, TTL));
+    List<String> keys = List.copyOf(values.keySet());
+
+    // when
+    long singleSetStart = System.nanoTime();
+    values.forEach((key, value) -> redisService.set(key, value, TTL));
+    long singleSetNanos = System.nanoTime() - singleSetStart;
+
+    long singleGetStart = System.nanoTime();
+    keys.forEach(redisService::get);
+    long singleGetNanos = System.nanoTime() - singleGetStart;
+
+    long multiSetStart = System.nanoTime();
+    redisService.multiSet(values, ttls);
+    long multiSetNanos = System.nanoTime() - multiSetStart;
+
+    long multiGetStart = System.nanoTime();
+    List<String> result = redisService.multiGet(keys);
+    long multiGetNanos = System.nanoTime() - multiGetStart;
+
+    // then
+    System.out.printf(
+        "[benchmark] keys=%d set=%.0f keys/s pipelined-set=%.0f keys/s get=%.0f keys/s"
+            + " multi-get=%.0f keys/s%n",
+        KEYS,
+        keysPerSecond(singleSetNanos),
+        keysPerSecond(multiSetNanos),
+        keysPerSecond(singleGetNanos),
+        keysPerSecond(multiGetNanos));
+
+    Assertions.assertIterableEquals(values.values(), result);
+  }
+
+  private double keysPerSecond(long nanos) {
+    return KEYS / (nanos / 1_000_000_000.0);
+  }
+}
@@ -1,6 +1,9 @@
 package com.jyujyu.dayonetest.service;
 
 import com.jyujyu.dayonetest.IntegrationTest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,4 +28,59 @@ class RedisServiceTest extends IntegrationTest {
 
     Assertions.assertEquals(expectValue, actualValue);
   }
+
+  @Test
+  @DisplayName("Redis Multi Get / Multi Set 테스트")
+  void redisMultiGetSetTest() {
+    // given
+    Map<String, String> values = Map.of("multi:1", "a", "multi:2", "b");
+
+    // when
+    redisService.multiSet(values);
+
+    // then
+    Assertions.assertIterableEquals(
+        List.of("a", "b"), redisService.multiGet(List.of("multi:1", "multi:2")));
+  }
+
+  @Test
+  @DisplayName("키별 TTL 을 지정한 파이프라인 Multi Set 테스트")
+  void redisPipelinedMultiSetTest() {
+    // given
+    Map<String, String> values = Map.of("ttl:1", "a", "ttl:2", "b");
+    Map<String, Duration> ttls = Map.of("ttl:1", Duration.ofMinutes(1));
+
+    // when
+    redisService.multiSet(values, ttls);
+
+    // then
+    List<Object> ttlSeconds =
+        redisService.pipelined(
+            connection -> {
+              connection.ttl("ttl:1");
+              connection.ttl("ttl:2");
+            });
+
+    Assertions.assertTrue((Long) ttlSeconds.get(0) > 0);
+    Assertions.assertEquals(-1L, ttlSeconds.get(1));
+    Assertions.assertIterableEquals(
+        List.of("a", "b"), redisService.multiGet(List.of("ttl:1", "ttl:2")));
+  }
+
+  @Test
+  @DisplayName("Redis Sorted Set 추가 / 역순 조회 / 키 교체 테스트")
+  void redisSortedSetTest() {
+    // given
+    redisService.zAdd("zset:temp", Map.of("a", 70.0, "b", 90.0, "c", 80.0));
+
+    // when
+    redisService.rename("zset:temp", "zset:leaderboard");
+
+    // then
+    var top = redisService.zReverseRangeWithScores("zset:leaderboard", 0, 1);
+
+    Assertions.assertEquals(
+        List.of("b", "c"), top.stream().map(tuple -> tuple.getValue()).toList());
+    Assertions.assertNull(redisService.get("zset:temp"));
+  }
 }
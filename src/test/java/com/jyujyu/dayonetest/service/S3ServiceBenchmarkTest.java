@@ -0,0 +1,80 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.IntegrationTest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Tag("benchmark")
+class S3ServiceBenchmarkTest extends IntegrationTest {
+
+  private static final int MEGA_BYTES = Integer.getInteger("benchmark.megabytes", 256);
+
+  @Autowired private S3Service s3Service;
+
+  @Test
+  @DisplayName("단일 putObject 와 병렬 멀티파트 업로드의 처리량 비교")
+  void putFileVersusMultipartTest() throws IOException {
+    // given
+    var bucket = "test-bucket";
+    Path file = createFile();
+
+    // when
+    long singleStart = System.nanoTime();
+    s3Service.putFile(bucket, "benchmark-single.bin", file.toFile());
+    long singleNanos = System.nanoTime() - singleStart;
+
+    long multipartStart = System.nanoTime();
+    s3Service.putFileMultipart(bucket, "benchmark-multipart.bin", file.toFile());
+    long multipartNanos = System.nanoTime() - multipartStart;
+
+    // then
+    System.out.printf(
+        "[benchmark] size=%dMB putObject=%.1f MB/s multipart=%.1f MB/s%n",
+        MEGA_BYTES, megaBytesPerSecond(singleNanos), megaBytesPerSecond(multipartNanos));
+
+    var counter = new CountingOutputStream();
+    s3Service.download(bucket, "benchmark-multipart.bin", counter);
+    Assertions.assertEquals(Files.size(file), counter.count);
+  }
+
+  private Path createFile() throws IOException {
+    Path file = Files.createTempFile("s3-benchmark-", ".bin");
+    byte[] chunk = new byte[1024 * 1024];
+    var random = new Random(0);
+
+    try (OutputStream out = Files.newOutputStream(file)) {
+      for (int i = 0; i < MEGA_BYTES; i++) {
+        random.nextBytes(chunk);
+        out.write(chunk);
+      }
+    }
+    return file;
+  }
+
+  private double megaBytesPerSecond(long nanos) {
+    return MEGA_BYTES / (nanos / 1_000_000_000.0);
+  }
+
+  private static class CountingOutputStream extends OutputStream {
+
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
+}
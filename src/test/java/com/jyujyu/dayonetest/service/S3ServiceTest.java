@@ -1,8 +1,12 @@
 package com.jyujyu.dayonetest.service;
 
 import com.jyujyu.dayonetest.IntegrationTest;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,9 +30,91 @@ class S3ServiceTest extends IntegrationTest {
     // then
     var resultfile = s3Service.getFile(bucket, key);
 
-    List<String> sampleFileLines = FileUtils.readLines(sampleFile);
-    List<String> resultFileLines = FileUtils.readLines(resultfile);
+    try {
+      List<String> sampleFileLines = FileUtils.readLines(sampleFile);
+      List<String> resultFileLines = FileUtils.readLines(resultfile);
 
-    Assertions.assertIterableEquals(sampleFileLines, resultFileLines);
+      Assertions.assertIterableEquals(sampleFileLines, resultFileLines);
+    } finally {
+      // getFile 이 만든 임시 파일은 호출한 쪽이 지운다
+      Files.delete(resultfile.toPath());
+    }
+  }
+
+  @Test
+  void s3StreamingDownloadTest() throws IOException {
+    // given
+    var bucket = "test-bucket";
+    var key = "streamingObject.txt";
+    var sampleFile = new ClassPathResource("static/sample.txt").getFile();
+    s3Service.putFile(bucket, key, sampleFile);
+
+    // when
+    var out = new ByteArrayOutputStream();
+    s3Service.download(bucket, key, out);
+
+    var target = Files.createTempFile("s3-test-", ".txt");
+    s3Service.download(bucket, key, target);
+
+    // then
+    Assertions.assertArrayEquals(Files.readAllBytes(sampleFile.toPath()), out.toByteArray());
+    Assertions.assertArrayEquals(
+        Files.readAllBytes(sampleFile.toPath()), Files.readAllBytes(target));
+  }
+
+  @Test
+  void s3RangedDownloadTest() throws IOException {
+    // given
+    var bucket = "test-bucket";
+    var key = "rangedObject.txt";
+    var sampleFile = new ClassPathResource("static/sample.txt").getFile();
+    s3Service.putFile(bucket, key, sampleFile);
+
+    // when
+    var out = new ByteArrayOutputStream();
+    s3Service.download(bucket, key, 7, 11, out);
+
+    // then
+    Assertions.assertEquals("world", out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void s3MultipartPutTest() throws IOException {
+    // given
+    var bucket = "test-bucket";
+    var key = "multipartObject.bin";
+    var file = Files.createTempFile("s3-multipart-", ".bin");
+    byte[] content = new byte[12 * 1024 * 1024];
+    new Random(0).nextBytes(content);
+    Files.write(file, content);
+
+    // when
+    s3Service.putFileMultipart(bucket, key, file.toFile());
+
+    // then
+    var out = new ByteArrayOutputStream();
+    s3Service.download(bucket, key, out);
+
+    Assertions.assertArrayEquals(content, out.toByteArray());
+  }
+
+  @Test
+  void s3MultipartOutputStreamTest() throws IOException {
+    // given
+    var bucket = "test-bucket";
+    var key = "multipartStreamObject.bin";
+    byte[] content = new byte[10 * 1024 * 1024];
+    new Random(1).nextBytes(content);
+
+    // when
+    try (var out = s3Service.openMultipartOutputStream(bucket, key)) {
+      out.write(content);
+    }
+
+    // then
+    var downloaded = new ByteArrayOutputStream();
+    s3Service.download(bucket, key, downloaded);
+
+    Assertions.assertArrayEquals(content, downloaded.toByteArray());
   }
 }
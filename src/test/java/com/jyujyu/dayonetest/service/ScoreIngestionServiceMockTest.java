@@ -0,0 +1,192 @@
+package com.jyujyu.dayonetest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
+import com.jyujyu.dayonetest.exception.ScorePublishException;
+import com.jyujyu.dayonetest.exception.UnknownExamException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+class ScoreIngestionServiceMockTest {
+
+  private StudentScoreService studentScoreService;
+  private ExamPartitionService examPartitionService;
+  private KafkaProducerService kafkaProducerService;
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void beforeEach() {
+    studentScoreService = Mockito.mock(StudentScoreService.class);
+    examPartitionService = Mockito.mock(ExamPartitionService.class);
+    kafkaProducerService = Mockito.mock(KafkaProducerService.class);
+    objectMapper = new ObjectMapper();
+  }
+
+  @Test
+  @DisplayName("sync 모드에서는 바로 DB 에 저장")
+  void syncSubmitTest() {
+    // given
+    var scoreIngestionService = createService("sync");
+    var request = new SaveExamScoreRequest("jyujyu", 80, 90, 100);
+
+    // when
+    boolean queued = scoreIngestionService.submit("testExam", request);
+
+    // then
+    Assertions.assertFalse(queued);
+    Mockito.verify(studentScoreService, Mockito.times(1))
+        .saveScore("testExam", "jyujyu", 80, 90, 100);
+    Mockito.verifyNoInteractions(kafkaProducerService);
+  }
+
+  @Test
+  @DisplayName("async 모드에서는 Kafka 로 발행만 하고 반환")
+  void asyncSubmitTest() {
+    // given
+    var scoreIngestionService = createService("async");
+    var request = new SaveExamScoreRequest("jyujyu", 80, 90, 100);
+    Mockito.when(kafkaProducerService.send(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    // when
+    boolean queued = scoreIngestionService.submit("testExam", request);
+
+    // then
+    Assertions.assertTrue(queued);
+    Mockito.verify(kafkaProducerService, Mockito.times(1))
+        .send(
+            ScoreIngestionService.TOPIC,
+            "testExam",
+            "{\"exam\":\"testExam\",\"studentName\":\"jyujyu\",\"korScore\":80,"
+                + "\"englishScore\":90,\"mathScore\":100}");
+    Mockito.verifyNoInteractions(studentScoreService);
+  }
+
+  @Test
+  @DisplayName("async 모드에서 발행에 실패하면 재제출이 필요하다고 알림")
+  void asyncSubmitFailureTest() {
+    // given
+    var scoreIngestionService = createService("async");
+    var request = new SaveExamScoreRequest("jyujyu", 80, 90, 100);
+    Mockito.when(kafkaProducerService.send(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker down")));
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            ScorePublishException.class, () -> scoreIngestionService.submit("testExam", request));
+
+    // then
+    Assertions.assertInstanceOf(KafkaException.class, exception.getCause().getCause());
+  }
+
+  @Test
+  @DisplayName("async 모드에서 발행 응답이 send-timeout 안에 오지 않으면 재제출이 필요하다고 알림")
+  void asyncSubmitTimeoutTest() {
+    // given
+    var scoreIngestionService = createService("async");
+    var request = new SaveExamScoreRequest("jyujyu", 80, 90, 100);
+    Mockito.when(kafkaProducerService.send(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(new CompletableFuture<>());
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            ScorePublishException.class, () -> scoreIngestionService.submit("testExam", request));
+
+    // then
+    Assertions.assertInstanceOf(TimeoutException.class, exception.getCause());
+  }
+
+  @Test
+  @DisplayName("컨슈머가 받은 이벤트는 시험별로 묶어서 일괄 저장")
+  @SuppressWarnings("unchecked")
+  void persistTest() {
+    // given
+    var scoreIngestionService = createService("async");
+    List<String> messages =
+        List.of(
+            "{\"exam\":\"exam1\",\"studentName\":\"a\",\"korScore\":10,\"englishScore\":20,\"mathScore\":30}",
+            "{\"exam\":\"exam2\",\"studentName\":\"b\",\"korScore\":40,\"englishScore\":50,\"mathScore\":60}",
+            "{\"exam\":\"exam1\",\"studentName\":\"c\",\"korScore\":70,\"englishScore\":80,\"mathScore\":90}");
+    ArgumentCaptor<List<SaveExamScoreRequest>> requestsCaptor = ArgumentCaptor.forClass(List.class);
+
+    // when
+    scoreIngestionService.persist(messages);
+
+    // then
+    Mockito.verify(studentScoreService).saveScores(Mockito.eq("exam1"), requestsCaptor.capture());
+    Assertions.assertEquals(
+        List.of("a", "c"),
+        requestsCaptor.getValue().stream().map(SaveExamScoreRequest::getStudentName).toList());
+
+    Mockito.verify(studentScoreService).saveScores(Mockito.eq("exam2"), requestsCaptor.capture());
+    Assertions.assertEquals(1, requestsCaptor.getValue().size());
+  }
+
+  @Test
+  @DisplayName("파싱할 수 없는 레코드가 있으면 앞선 레코드만 저장하고 실패한 위치를 알림")
+  @SuppressWarnings("unchecked")
+  void persistUnparsableRecordTest() {
+    // given
+    var scoreIngestionService = createService("async");
+    List<String> messages =
+        List.of(
+            "{\"exam\":\"exam1\",\"studentName\":\"a\",\"korScore\":10,\"englishScore\":20,\"mathScore\":30}",
+            "not-json",
+            "{\"exam\":\"exam1\",\"studentName\":\"c\",\"korScore\":70,\"englishScore\":80,\"mathScore\":90}");
+    ArgumentCaptor<List<SaveExamScoreRequest>> requestsCaptor = ArgumentCaptor.forClass(List.class);
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            BatchListenerFailedException.class, () -> scoreIngestionService.persist(messages));
+
+    // then
+    Assertions.assertEquals(1, exception.getIndex());
+    Mockito.verify(studentScoreService).saveScores(Mockito.eq("exam1"), requestsCaptor.capture());
+    Assertions.assertEquals(
+        List.of("a"),
+        requestsCaptor.getValue().stream().map(SaveExamScoreRequest::getStudentName).toList());
+  }
+
+  @Test
+  @DisplayName("async 모드에서 등록되지 않은 시험은 발행하지 않고 거절")
+  void asyncSubmitUnknownExamTest() {
+    // given
+    var scoreIngestionService = createService("async");
+    var request = new SaveExamScoreRequest("jyujyu", 80, 90, 100);
+    Mockito.doThrow(new UnknownExamException("unknownExam"))
+        .when(examPartitionService)
+        .requirePartition("unknownExam");
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            UnknownExamException.class, () -> scoreIngestionService.submit("unknownExam", request));
+
+    // then
+    Assertions.assertEquals("unknownExam", exception.getExam());
+    Mockito.verifyNoInteractions(kafkaProducerService);
+  }
+
+  private ScoreIngestionService createService(String mode) {
+    return new ScoreIngestionService(
+        studentScoreService,
+        examPartitionService,
+        kafkaProducerService,
+        objectMapper,
+        mode,
+        Duration.ofMillis(100));
+  }
+}
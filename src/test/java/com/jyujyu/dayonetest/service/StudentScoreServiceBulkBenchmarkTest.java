@@ -0,0 +1,73 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.IntegrationTest;
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
+import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Tag("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudentScoreServiceBulkBenchmarkTest extends IntegrationTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 5000);
+
+  @Autowired private StudentScoreService studentScoreService;
+
+  @Autowired private StudentScoreRepository studentScoreRepository;
+
+  @Autowired private ExamPartitionService examPartitionService;
+
+  @Test
+  @DisplayName("단건 저장과 일괄 저장의 초당 처리 행 수 비교")
+  void saveScoreVersusSaveScoresTest() {
+    // given
+    List<SaveExamScoreRequest> requests = createRequests();
+    String perRowExam = "per-row-" + UUID.randomUUID();
+    String bulkExam = "bulk-" + UUID.randomUUID();
+    examPartitionService.createPartition(perRowExam);
+    examPartitionService.createPartition(bulkExam);
+    long before = studentScoreRepository.count();
+
+    // when
+    long perRowStart = System.nanoTime();
+    for (SaveExamScoreRequest request : requests) {
+      studentScoreService.saveScore(
+          perRowExam,
+          request.getStudentName(),
+          request.getKorScore(),
+          request.getEnglishScore(),
+          request.getMathScore());
+    }
+    long perRowNanos = System.nanoTime() - perRowStart;
+
+    long bulkStart = System.nanoTime();
+    studentScoreService.saveScores(bulkExam, requests);
+    long bulkNanos = System.nanoTime() - bulkStart;
+
+    // then
+    System.out.printf(
+        "[benchmark] rows=%d per-row=%.0f rows/s bulk=%.0f rows/s%n",
+        ROWS, rowsPerSecond(perRowNanos), rowsPerSecond(bulkNanos));
+
+    Assertions.assertEquals(before + ROWS * 2L, studentScoreRepository.count());
+  }
+
+  private List<SaveExamScoreRequest> createRequests() {
+    return IntStream.range(0, ROWS)
+        .mapToObj(i -> new SaveExamScoreRequest("student-" + i, i % 101, (i * 7) % 101, 60))
+        .toList();
+  }
+
+  private double rowsPerSecond(long nanos) {
+    return ROWS / (nanos / 1_000_000_000.0);
+  }
+}
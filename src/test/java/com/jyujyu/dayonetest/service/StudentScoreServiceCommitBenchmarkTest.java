@@ -0,0 +1,94 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.IntegrationTest;
+import com.jyujyu.dayonetest.model.StudentPass;
+import com.jyujyu.dayonetest.model.StudentScore;
+import com.jyujyu.dayonetest.repository.StudentPassRepository;
+import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudentScoreServiceCommitBenchmarkTest extends IntegrationTest {
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 2000);
+
+  @Autowired private StudentScoreService studentScoreService;
+
+  @Autowired private StudentScoreRepository studentScoreRepository;
+
+  @Autowired private StudentPassRepository studentPassRepository;
+
+  @Autowired private ExamPartitionService examPartitionService;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @Test
+  @DisplayName("점수와 합격 여부를 각각 커밋할 때와 한 트랜잭션으로 커밋할 때의 초당 커밋 수 비교")
+  void separateVersusSingleCommitTest() {
+    // given
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    String separateExam = "separate-" + UUID.randomUUID();
+    String singleExam = "single-" + UUID.randomUUID();
+    String serviceExam = "service-" + UUID.randomUUID();
+    long before = studentScoreRepository.count();
+    examPartitionService.createPartition(separateExam);
+    examPartitionService.createPartition(singleExam);
+    examPartitionService.createPartition(serviceExam);
+
+    // when
+    long separateNanos = measure(i -> saveScoreAndPass(separateExam, i));
+    long singleNanos =
+        measure(
+            i -> transactionTemplate.executeWithoutResult(s -> saveScoreAndPass(singleExam, i)));
+    long serviceNanos =
+        measure(i -> studentScoreService.saveScore(serviceExam, "student-" + i, 80, 70, 90));
+
+    // then
+    System.out.printf(
+        "[benchmark] rows=%d separate=%.0f rows/s single=%.0f rows/s service=%.0f rows/s%n",
+        ROWS,
+        rowsPerSecond(separateNanos),
+        rowsPerSecond(singleNanos),
+        rowsPerSecond(serviceNanos));
+
+    Assertions.assertEquals(before + ROWS * 3L, studentScoreRepository.count());
+  }
+
+  // 트랜잭션 밖에서 호출하면 save 마다 별도로 커밋되어 이전 저장 경로와 같다
+  private void saveScoreAndPass(String exam, int i) {
+    String studentName = "student-" + i;
+    studentScoreRepository.save(
+        StudentScore.builder()
+            .exam(exam)
+            .studentName(studentName)
+            .korScore(80)
+            .englishScore(70)
+            .mathScore(90)
+            .build());
+    studentPassRepository.save(
+        StudentPass.builder().exam(exam).studentName(studentName).avgScore(80.0).build());
+  }
+
+  private long measure(IntConsumer save) {
+    long start = System.nanoTime();
+    for (int i = 0; i < ROWS; i++) {
+      save.accept(i);
+    }
+    return System.nanoTime() - start;
+  }
+
+  private double rowsPerSecond(long nanos) {
+    return ROWS / (nanos / 1_000_000_000.0);
+  }
+}
@@ -3,8 +3,11 @@ package com.jyujyu.dayonetest.service;
 import com.jyujyu.dayonetest.IntegrationTest;
 import com.jyujyu.dayonetest.MyCalculator;
 import com.jyujyu.dayonetest.model.StudentScoreFixture;
+import com.jyujyu.dayonetest.repository.StudentScoreRepository;
 import jakarta.persistence.EntityManager;
+import java.util.UUID;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -12,12 +15,17 @@ class StudentScoreServiceIntegrationTest extends IntegrationTest {
 
   @Autowired private StudentScoreService studentScoreService;
 
+  @Autowired private StudentScoreRepository studentScoreRepository;
+
+  @Autowired private ExamPartitionService examPartitionService;
+
   @Autowired private EntityManager entityManager;
 
   @Test
   void savePassedStudentScoreTest() {
     // given
     var studentScore = StudentScoreFixture.passed();
+    examPartitionService.createPartition(studentScore.getExam());
 
     // when
     studentScoreService.saveScore(
@@ -54,6 +62,7 @@ class StudentScoreServiceIntegrationTest extends IntegrationTest {
   void saveFailedStudentScoreTest() {
     // given
     var studentScore = StudentScoreFixture.failed();
+    examPartitionService.createPartition(studentScore.getExam());
 
     // when
     studentScoreService.saveScore(
@@ -85,4 +94,41 @@ class StudentScoreServiceIntegrationTest extends IntegrationTest {
             .getResult(),
         failedStudentResponse.getAvgScore());
   }
+
+  @Test
+  @DisplayName("같은 학생이 다시 제출하면 행이 늘지 않고 합격에서 불합격으로 옮겨짐")
+  void resubmitScoreTest() {
+    // given
+    String exam = "resubmit-" + UUID.randomUUID();
+    examPartitionService.createPartition(exam);
+    studentScoreService.saveScore(exam, "jyujyu", 100, 100, 100);
+
+    // when
+    studentScoreService.saveScore(exam, "jyujyu", 10, 20, 30);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    var failedStudentResponses = studentScoreService.getFailStudentsList(exam);
+
+    Assertions.assertTrue(studentScoreService.getPassStudentsList(exam).isEmpty());
+    Assertions.assertEquals(1, failedStudentResponses.size());
+    Assertions.assertEquals(20.0, failedStudentResponses.get(0).getAvgScore());
+    Assertions.assertEquals(1L, studentScoreRepository.summarizeByExam(exam).getCount());
+  }
+
+  @Test
+  @DisplayName("등록되지 않은 시험의 첫 점수는 시험을 자동 등록한 뒤 저장")
+  void saveUnknownExamScoreTest() {
+    // given
+    String exam = "unknown-" + UUID.randomUUID();
+
+    // when
+    studentScoreService.saveScore(exam, "jyujyu", 100, 100, 100);
+
+    // then
+    Assertions.assertEquals(1L, studentScoreRepository.summarizeByExam(exam).getCount());
+    Assertions.assertEquals(1, studentScoreService.getPassStudentsList(exam).size());
+  }
 }
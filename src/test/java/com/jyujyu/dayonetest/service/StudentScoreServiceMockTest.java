@@ -1,7 +1,10 @@
 package com.jyujyu.dayonetest.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jyujyu.dayonetest.controller.request.SaveExamScoreRequest;
 import com.jyujyu.dayonetest.controller.response.ExamFailStudentResponse;
 import com.jyujyu.dayonetest.controller.response.ExamPassStudentResponse;
+import com.jyujyu.dayonetest.exception.UnknownExamException;
 import com.jyujyu.dayonetest.model.StudentFail;
 import com.jyujyu.dayonetest.model.StudentFailFixture;
 import com.jyujyu.dayonetest.model.StudentPass;
@@ -12,6 +15,8 @@ import com.jyujyu.dayonetest.model.StudentScoreTestDataBuilder;
 import com.jyujyu.dayonetest.repository.StudentFailRepository;
 import com.jyujyu.dayonetest.repository.StudentPassRepository;
 import com.jyujyu.dayonetest.repository.StudentScoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
@@ -20,22 +25,45 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
 
 class StudentScoreServiceMockTest {
 
   private StudentScoreService studentScoreService;
+  private StudentScoreUpsertService studentScoreUpsertService;
   private StudentScoreRepository studentScoreRepository;
   private StudentPassRepository studentPassRepository;
   private StudentFailRepository studentFailRepository;
+  private RedisService redisService;
+  private ExamPartitionService examPartitionService;
 
   @BeforeEach
   void beforeEach() {
+    studentScoreUpsertService = Mockito.mock(StudentScoreUpsertService.class);
     studentScoreRepository = Mockito.mock(StudentScoreRepository.class);
     studentPassRepository = Mockito.mock(StudentPassRepository.class);
     studentFailRepository = Mockito.mock(StudentFailRepository.class);
+    redisService = Mockito.mock(RedisService.class);
+    examPartitionService = Mockito.mock(ExamPartitionService.class);
     studentScoreService =
         new StudentScoreService(
-            studentScoreRepository, studentPassRepository, studentFailRepository);
+            examPartitionService,
+            studentScoreUpsertService,
+            studentPassRepository,
+            studentFailRepository,
+            new ExamResultCacheService(
+                new NearCacheService(
+                    redisService,
+                    new SimpleMeterRegistry(),
+                    DataSize.ofKilobytes(100),
+                    Duration.ofSeconds(5)),
+                new ObjectMapper()),
+            new ExamStatsService(redisService, studentScoreRepository),
+            new ExamLeaderboardService(
+                redisService,
+                new ExamResultQueryService(studentPassRepository, studentFailRepository)));
   }
 
   @Test
@@ -55,15 +83,16 @@ class StudentScoreServiceMockTest {
 
   @Test
   @DisplayName("성적 저장 검증 로직 / 60점 이상인 경우")
+  @SuppressWarnings("unchecked")
   void saveScoreMockTest() {
     // given : 평균 점수가 60점 이상인 경우
     StudentScore expectStudentScore = StudentScoreTestDataBuilder.passed().build();
     StudentPass expectStudentPass = StudentPassFixture.create(expectStudentScore);
 
-    ArgumentCaptor<StudentScore> studentScoreArgumentCaptor =
-        ArgumentCaptor.forClass(StudentScore.class);
-    ArgumentCaptor<StudentPass> studentPassArgumentCaptor =
-        ArgumentCaptor.forClass(StudentPass.class);
+    ArgumentCaptor<List<StudentScore>> studentScoreArgumentCaptor =
+        ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<StudentPass>> studentPassArgumentCaptor =
+        ArgumentCaptor.forClass(List.class);
 
     // when
     studentScoreService.saveScore(
@@ -74,10 +103,10 @@ class StudentScoreServiceMockTest {
         expectStudentScore.getMathScore());
 
     // then
-    Mockito.verify(studentScoreRepository, Mockito.times(1))
-        .save(studentScoreArgumentCaptor.capture());
+    Mockito.verify(studentScoreUpsertService, Mockito.times(1))
+        .upsertScores(studentScoreArgumentCaptor.capture());
 
-    StudentScore capturedStudentScore = studentScoreArgumentCaptor.getValue();
+    StudentScore capturedStudentScore = studentScoreArgumentCaptor.getValue().get(0);
 
     Assertions.assertEquals(
         expectStudentScore.getStudentName(), capturedStudentScore.getStudentName());
@@ -87,30 +116,37 @@ class StudentScoreServiceMockTest {
         expectStudentScore.getEnglishScore(), capturedStudentScore.getEnglishScore());
     Assertions.assertEquals(expectStudentScore.getMathScore(), capturedStudentScore.getMathScore());
 
-    Mockito.verify(studentPassRepository, Mockito.times(1))
-        .save(studentPassArgumentCaptor.capture());
+    Mockito.verify(studentScoreUpsertService, Mockito.times(1))
+        .upsertPasses(studentPassArgumentCaptor.capture());
 
-    StudentPass capturedStudentPass = studentPassArgumentCaptor.getValue();
+    StudentPass capturedStudentPass = studentPassArgumentCaptor.getValue().get(0);
 
     Assertions.assertEquals(
         expectStudentPass.getStudentName(), capturedStudentPass.getStudentName());
     Assertions.assertEquals(expectStudentPass.getExam(), capturedStudentPass.getExam());
     Assertions.assertEquals(expectStudentPass.getAvgScore(), capturedStudentPass.getAvgScore());
 
-    Mockito.verify(studentFailRepository, Mockito.times(0)).save(Mockito.any());
+    Mockito.verify(studentScoreUpsertService, Mockito.times(0)).upsertFails(Mockito.any());
+
+    Mockito.verify(redisService, Mockito.times(1))
+        .delete(
+            List.of(
+                ExamResultCacheService.passKey(expectStudentScore.getExam()),
+                ExamResultCacheService.failKey(expectStudentScore.getExam())));
   }
 
   @Test
   @DisplayName("성적 저장 로직 검증 / 60점 미만인 경우")
+  @SuppressWarnings("unchecked")
   void saveScoreMockTest2() {
     // given : 평균 점수가 60점 미만인 경우
     StudentScore expectStudentScore = StudentScoreFixture.failed();
     StudentFail expectStudentFail = StudentFailFixture.create(expectStudentScore);
 
-    ArgumentCaptor<StudentScore> studentScoreArgumentCaptor =
-        ArgumentCaptor.forClass(StudentScore.class);
-    ArgumentCaptor<StudentFail> studentFailArgumentCaptor =
-        ArgumentCaptor.forClass(StudentFail.class);
+    ArgumentCaptor<List<StudentScore>> studentScoreArgumentCaptor =
+        ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<StudentFail>> studentFailArgumentCaptor =
+        ArgumentCaptor.forClass(List.class);
 
     // when
     studentScoreService.saveScore(
@@ -121,10 +157,10 @@ class StudentScoreServiceMockTest {
         expectStudentScore.getMathScore());
 
     // then
-    Mockito.verify(studentScoreRepository, Mockito.times(1))
-        .save(studentScoreArgumentCaptor.capture());
+    Mockito.verify(studentScoreUpsertService, Mockito.times(1))
+        .upsertScores(studentScoreArgumentCaptor.capture());
 
-    StudentScore capturedStudentScore = studentScoreArgumentCaptor.getValue();
+    StudentScore capturedStudentScore = studentScoreArgumentCaptor.getValue().get(0);
 
     Assertions.assertEquals(
         expectStudentScore.getStudentName(), capturedStudentScore.getStudentName());
@@ -134,17 +170,191 @@ class StudentScoreServiceMockTest {
         expectStudentScore.getEnglishScore(), capturedStudentScore.getEnglishScore());
     Assertions.assertEquals(expectStudentScore.getMathScore(), capturedStudentScore.getMathScore());
 
-    Mockito.verify(studentPassRepository, Mockito.times(0)).save(Mockito.any());
+    Mockito.verify(studentScoreUpsertService, Mockito.times(0)).upsertPasses(Mockito.any());
 
-    Mockito.verify(studentFailRepository, Mockito.times(1))
-        .save(studentFailArgumentCaptor.capture());
+    Mockito.verify(studentScoreUpsertService, Mockito.times(1))
+        .upsertFails(studentFailArgumentCaptor.capture());
 
-    StudentFail capturedStudentFail = studentFailArgumentCaptor.getValue();
+    StudentFail capturedStudentFail = studentFailArgumentCaptor.getValue().get(0);
 
     Assertions.assertEquals(
         expectStudentFail.getStudentName(), capturedStudentFail.getStudentName());
     Assertions.assertEquals(expectStudentFail.getExam(), capturedStudentFail.getExam());
     Assertions.assertEquals(expectStudentFail.getAvgScore(), capturedStudentFail.getAvgScore());
+
+    Mockito.verify(redisService, Mockito.times(1))
+        .delete(
+            List.of(
+                ExamResultCacheService.passKey(expectStudentScore.getExam()),
+                ExamResultCacheService.failKey(expectStudentScore.getExam())));
+  }
+
+  @Test
+  @DisplayName("성적 일괄 저장 로직 검증 / 합격자와 불합격자가 섞여 있는 경우")
+  @SuppressWarnings("unchecked")
+  void saveScoresMockTest() {
+    // given
+    String givenExam = "testExam";
+    StudentScore passedScore = StudentScoreTestDataBuilder.passed().studentName("passed").build();
+    StudentScore failedScore = StudentScoreTestDataBuilder.failed().studentName("failed").build();
+    StudentPass expectStudentPass = StudentPassFixture.create(passedScore);
+    StudentFail expectStudentFail = StudentFailFixture.create(failedScore);
+
+    List<SaveExamScoreRequest> requests =
+        Stream.of(passedScore, failedScore)
+            .map(
+                score ->
+                    new SaveExamScoreRequest(
+                        score.getStudentName(),
+                        score.getKorScore(),
+                        score.getEnglishScore(),
+                        score.getMathScore()))
+            .toList();
+
+    ArgumentCaptor<List<StudentScore>> studentScoresCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<StudentPass>> studentPassesCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<StudentFail>> studentFailsCaptor = ArgumentCaptor.forClass(List.class);
+
+    // when
+    studentScoreService.saveScores(givenExam, requests);
+
+    // then
+    Mockito.verify(studentScoreUpsertService, Mockito.times(1))
+        .upsertScores(studentScoresCaptor.capture());
+    Mockito.verify(studentScoreUpsertService, Mockito.times(1))
+        .upsertPasses(studentPassesCaptor.capture());
+    Mockito.verify(studentScoreUpsertService, Mockito.times(1))
+        .upsertFails(studentFailsCaptor.capture());
+
+    Assertions.assertEquals(2, studentScoresCaptor.getValue().size());
+    Assertions.assertEquals(givenExam, studentScoresCaptor.getValue().get(0).getExam());
+
+    StudentPass capturedStudentPass = studentPassesCaptor.getValue().get(0);
+    Assertions.assertEquals(1, studentPassesCaptor.getValue().size());
+    Assertions.assertEquals(
+        expectStudentPass.getStudentName(), capturedStudentPass.getStudentName());
+    Assertions.assertEquals(expectStudentPass.getAvgScore(), capturedStudentPass.getAvgScore());
+
+    StudentFail capturedStudentFail = studentFailsCaptor.getValue().get(0);
+    Assertions.assertEquals(1, studentFailsCaptor.getValue().size());
+    Assertions.assertEquals(
+        expectStudentFail.getStudentName(), capturedStudentFail.getStudentName());
+    Assertions.assertEquals(expectStudentFail.getAvgScore(), capturedStudentFail.getAvgScore());
+  }
+
+  @Test
+  @DisplayName("성적 일괄 저장 로직 검증 / 같은 학생이 불합격 후 합격으로 다시 제출되면 마지막 제출만 저장")
+  @SuppressWarnings("unchecked")
+  void saveScoresResubmittedMockTest() {
+    // given
+    String givenExam = "testExam";
+    List<SaveExamScoreRequest> requests =
+        List.of(
+            new SaveExamScoreRequest("jyujyu", 30, 40, 50),
+            new SaveExamScoreRequest("jyujyu", 80, 90, 100));
+
+    ArgumentCaptor<List<StudentScore>> studentScoresCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<StudentPass>> studentPassesCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<List<StudentFail>> studentFailsCaptor = ArgumentCaptor.forClass(List.class);
+
+    // when
+    studentScoreService.saveScores(givenExam, requests);
+
+    // then
+    Mockito.verify(studentScoreUpsertService).upsertScores(studentScoresCaptor.capture());
+    Mockito.verify(studentScoreUpsertService).upsertPasses(studentPassesCaptor.capture());
+    Mockito.verify(studentScoreUpsertService).upsertFails(studentFailsCaptor.capture());
+
+    Assertions.assertEquals(1, studentScoresCaptor.getValue().size());
+    Assertions.assertEquals(80, studentScoresCaptor.getValue().get(0).getKorScore());
+    Assertions.assertEquals(1, studentPassesCaptor.getValue().size());
+    Assertions.assertEquals("jyujyu", studentPassesCaptor.getValue().get(0).getStudentName());
+    Assertions.assertTrue(studentFailsCaptor.getValue().isEmpty());
+  }
+
+  @Test
+  @DisplayName("등록되지 않은 시험이면 아무것도 쓰지 않고 거절")
+  void saveScoreUnknownExamTest() {
+    // given
+    Mockito.doThrow(new UnknownExamException("unknownExam"))
+        .when(examPartitionService)
+        .requirePartition("unknownExam");
+
+    // when
+    var exception =
+        Assertions.assertThrows(
+            UnknownExamException.class,
+            () -> studentScoreService.saveScore("unknownExam", "jyujyu", 80, 90, 100));
+
+    // then
+    Assertions.assertEquals("unknownExam", exception.getExam());
+    Mockito.verifyNoInteractions(studentScoreUpsertService, redisService);
+  }
+
+  @Test
+  @DisplayName("재제출이면 upsert 가 돌려준 이전 점수를 빼고 새 점수를 더한 증분으로 통계를 갱신함")
+  void saveScoreResubmittedStatsTest() {
+    // given : 불합격이던 학생이 합격 점수로 다시 제출
+    StudentScore studentScore = StudentScoreFixture.passed();
+    StudentScore previousScore =
+        StudentScoreTestDataBuilder.failed()
+            .exam(studentScore.getExam())
+            .studentName(studentScore.getStudentName())
+            .build();
+    Mockito.when(studentScoreUpsertService.upsertScores(Mockito.anyList()))
+        .thenReturn(List.of(previousScore));
+
+    // when
+    studentScoreService.saveScore(
+        studentScore.getExam(),
+        studentScore.getStudentName(),
+        studentScore.getKorScore(),
+        studentScore.getEnglishScore(),
+        studentScore.getMathScore());
+
+    // then : 건수는 그대로이고 합격 수만 1 늘어남
+    ArgumentCaptor<String[]> argsCaptor = ArgumentCaptor.forClass(String[].class);
+    Mockito.verify(redisService)
+        .execute(
+            Mockito.any(),
+            Mockito.eq(
+                List.of(
+                    ExamStatsService.statsKey(studentScore.getExam()),
+                    ExamStatsService.histogramKey(studentScore.getExam()))),
+            argsCaptor.capture());
+    Assertions.assertEquals(List.of("0", "0", "1"), List.of(argsCaptor.getValue()).subList(0, 3));
+    Mockito.verifyNoInteractions(studentScoreRepository);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서는 커밋 이후에 캐시를 무효화함")
+  void evictAfterCommitTest() {
+    // given
+    StudentScore studentScore = StudentScoreFixture.passed();
+    TransactionSynchronizationManager.initSynchronization();
+
+    try {
+      // when
+      studentScoreService.saveScore(
+          studentScore.getExam(),
+          studentScore.getStudentName(),
+          studentScore.getKorScore(),
+          studentScore.getEnglishScore(),
+          studentScore.getMathScore());
+
+      // then
+      Mockito.verify(redisService, Mockito.never()).delete(Mockito.anyList());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      Mockito.verify(redisService, Mockito.times(1))
+          .delete(
+              List.of(
+                  ExamResultCacheService.passKey(studentScore.getExam()),
+                  ExamResultCacheService.failKey(studentScore.getExam())));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
   }
 
   @Test
@@ -154,20 +364,21 @@ class StudentScoreServiceMockTest {
     String givenTestExam = "testexam";
     StudentPass expectStudent1 = StudentPassFixture.create("jyujyu", givenTestExam);
     StudentPass expectStudent2 = StudentPassFixture.create("testName", givenTestExam);
-    StudentPass notExpectStudent3 = StudentPassFixture.create("anotherStudent", "anotherExam");
-
-    Mockito.when(studentPassRepository.findAll())
-        .thenReturn(List.of(expectStudent1, expectStudent2, notExpectStudent3));
 
-    // when
     var expectResponses =
         Stream.of(expectStudent1, expectStudent2)
             .map(pass -> new ExamPassStudentResponse(pass.getStudentName(), pass.getAvgScore()))
             .toList();
+
+    Mockito.when(studentPassRepository.findByExam(givenTestExam)).thenReturn(expectResponses);
+
+    // when
     List<ExamPassStudentResponse> responses =
         studentScoreService.getPassStudentsList(givenTestExam);
 
+    // then
     Assertions.assertIterableEquals(expectResponses, responses);
+    Mockito.verify(studentPassRepository, Mockito.never()).findAll();
   }
 
   @Test
@@ -177,20 +388,20 @@ class StudentScoreServiceMockTest {
     String givenTestExam = "testexam";
     StudentFail expectStudent1 = StudentFailFixture.create("testName", givenTestExam);
     StudentFail expectStudent2 = StudentFailFixture.create("textName2", givenTestExam);
-    StudentFail notExpectStudent3 = StudentFailFixture.create("anotherStudent", "anotherExam");
 
-    Mockito.when(studentFailRepository.findAll())
-        .thenReturn(List.of(expectStudent1, expectStudent2, notExpectStudent3));
-
-    // when
     var expectFailList =
         Stream.of(expectStudent1, expectStudent2)
             .map(fail -> new ExamFailStudentResponse(fail.getStudentName(), fail.getAvgScore()))
             .toList();
+
+    Mockito.when(studentFailRepository.findByExam(givenTestExam)).thenReturn(expectFailList);
+
+    // when
     List<ExamFailStudentResponse> responses =
         studentScoreService.getFailStudentsList(givenTestExam);
 
     // then
     Assertions.assertIterableEquals(expectFailList, responses);
+    Mockito.verify(studentFailRepository, Mockito.never()).findAll();
   }
 }
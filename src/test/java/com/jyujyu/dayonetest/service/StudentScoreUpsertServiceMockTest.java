@@ -0,0 +1,147 @@
+package com.jyujyu.dayonetest.service;
+
+import com.jyujyu.dayonetest.model.StudentFail;
+import com.jyujyu.dayonetest.model.StudentFailFixture;
+import com.jyujyu.dayonetest.model.StudentPass;
+import com.jyujyu.dayonetest.model.StudentPassFixture;
+import com.jyujyu.dayonetest.model.StudentScore;
+import com.jyujyu.dayonetest.model.StudentScoreTestDataBuilder;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+class StudentScoreUpsertServiceMockTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private StudentScoreUpsertService studentScoreUpsertService;
+
+  @BeforeEach
+  void beforeEach() {
+    jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+    studentScoreUpsertService = new StudentScoreUpsertService(jdbcTemplate);
+  }
+
+  @Test
+  @DisplayName("점수는 다중 행 INSERT 한 번으로 upsert 하고, 재제출이 없으면 이전 점수를 다시 읽지 않음")
+  void upsertScoresTest() {
+    // given
+    List<StudentScore> studentScores =
+        List.of(
+            StudentScoreTestDataBuilder.passed().studentName("a").build(),
+            StudentScoreTestDataBuilder.failed().studentName("b").build());
+    Mockito.when(
+            jdbcTemplate.update(
+                Mockito.eq(StudentScoreUpsertService.upsertScoreSql(2)),
+                Mockito.any(PreparedStatementSetter.class)))
+        .thenReturn(2);
+
+    // when
+    List<StudentScore> previousScores = studentScoreUpsertService.upsertScores(studentScores);
+
+    // then
+    Assertions.assertTrue(previousScores.isEmpty());
+    Assertions.assertTrue(
+        StudentScoreUpsertService.upsertScoreSql(2)
+            .contains("VALUES (?, ?, ?, ?, ?), (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE"));
+    Assertions.assertTrue(
+        StudentScoreUpsertService.upsertScoreSql(2).contains("UPDATE prev_kor_score = kor_score,"));
+    Mockito.verify(jdbcTemplate, Mockito.never())
+        .query(
+            Mockito.anyString(),
+            Mockito.any(PreparedStatementSetter.class),
+            Mockito.<RowMapper<StudentScore>>any());
+  }
+
+  @Test
+  @DisplayName("affected rows 가 행 수를 넘으면 덮어쓴 행의 이전 점수를 다시 읽어 돌려줌")
+  void upsertScoresResubmittedTest() {
+    // given
+    List<StudentScore> studentScores =
+        List.of(
+            StudentScoreTestDataBuilder.passed().studentName("a").build(),
+            StudentScoreTestDataBuilder.failed().studentName("b").build());
+    StudentScore previousScore = StudentScoreTestDataBuilder.failed().studentName("b").build();
+    // a 는 새로 들어가고(1) b 는 기존 행을 덮어씀(2)
+    Mockito.when(
+            jdbcTemplate.update(
+                Mockito.eq(StudentScoreUpsertService.upsertScoreSql(2)),
+                Mockito.any(PreparedStatementSetter.class)))
+        .thenReturn(3);
+    Mockito.when(
+            jdbcTemplate.query(
+                Mockito.eq(StudentScoreUpsertService.previousScoreSql(2)),
+                Mockito.any(PreparedStatementSetter.class),
+                Mockito.<RowMapper<StudentScore>>any()))
+        .thenReturn(List.of(previousScore));
+
+    // when
+    List<StudentScore> previousScores = studentScoreUpsertService.upsertScores(studentScores);
+
+    // then
+    Assertions.assertEquals(List.of(previousScore), previousScores);
+    Assertions.assertTrue(
+        StudentScoreUpsertService.previousScoreSql(2)
+            .endsWith("IS NOT NULL AND (exam, student_name) IN ((?, ?), (?, ?))"));
+  }
+
+  @Test
+  @DisplayName("합격 결과는 upsert 한 뒤 같은 학생의 불합격 행을 지움")
+  void upsertPassesTest() {
+    // given
+    List<StudentPass> studentPasses = List.of(StudentPassFixture.create("jyujyu", "testexam"));
+
+    // when
+    studentScoreUpsertService.upsertPasses(studentPasses);
+
+    // then
+    InOrder inOrder = Mockito.inOrder(jdbcTemplate);
+    inOrder
+        .verify(jdbcTemplate)
+        .batchUpdate(
+            Mockito.eq(StudentScoreUpsertService.UPSERT_PASS_SQL),
+            Mockito.eq(studentPasses),
+            Mockito.eq(1),
+            Mockito.<ParameterizedPreparedStatementSetter<StudentPass>>any());
+    inOrder
+        .verify(jdbcTemplate)
+        .batchUpdate(
+            Mockito.eq(StudentScoreUpsertService.DELETE_FAIL_SQL),
+            Mockito.eq(studentPasses),
+            Mockito.eq(1),
+            Mockito.<ParameterizedPreparedStatementSetter<StudentPass>>any());
+  }
+
+  @Test
+  @DisplayName("불합격 결과는 upsert 한 뒤 같은 학생의 합격 행을 지우고, 빈 목록은 쿼리를 보내지 않음")
+  void upsertFailsTest() {
+    // given
+    List<StudentFail> studentFails = List.of(StudentFailFixture.create("jyujyu", "testexam"));
+
+    // when
+    studentScoreUpsertService.upsertFails(studentFails);
+    studentScoreUpsertService.upsertScores(List.of());
+
+    // then
+    Mockito.verify(jdbcTemplate)
+        .batchUpdate(
+            Mockito.eq(StudentScoreUpsertService.UPSERT_FAIL_SQL),
+            Mockito.eq(studentFails),
+            Mockito.eq(1),
+            Mockito.<ParameterizedPreparedStatementSetter<StudentFail>>any());
+    Mockito.verify(jdbcTemplate)
+        .batchUpdate(
+            Mockito.eq(StudentScoreUpsertService.DELETE_PASS_SQL),
+            Mockito.eq(studentFails),
+            Mockito.eq(1),
+            Mockito.<ParameterizedPreparedStatementSetter<StudentFail>>any());
+    Mockito.verifyNoMoreInteractions(jdbcTemplate);
+  }
+}
@@ -0,0 +1,121 @@
+package com.jyujyu.dayonetest.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+class S3MultipartOutputStreamMockTest {
+
+  private S3Client s3Client;
+  private Map<Integer, byte[]> uploadedParts;
+
+  @BeforeEach
+  void beforeEach() {
+    s3Client = Mockito.mock(S3Client.class);
+    uploadedParts = new ConcurrentSkipListMap<>();
+    Mockito.when(s3Client.createMultipartUpload(Mockito.any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+  }
+
+  @Test
+  @DisplayName("파트 크기만큼 쌓이면 파트를 업로드하고, close 시 남은 바이트를 마지막 파트로 전송")
+  void writePartsAndCompleteTest() throws IOException {
+    // given
+    stubUploadPart();
+    var out = openStream(4);
+
+    // when
+    out.write("0123456789".getBytes());
+    out.write('X');
+    out.close();
+
+    // then
+    var completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    Mockito.verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+
+    List<CompletedPart> parts = completeCaptor.getValue().multipartUpload().parts();
+    Assertions.assertEquals(
+        List.of(1, 2, 3), parts.stream().map(CompletedPart::partNumber).toList());
+    Assertions.assertEquals("0123", new String(uploadedParts.get(1)));
+    Assertions.assertEquals("4567", new String(uploadedParts.get(2)));
+    Assertions.assertEquals("89X", new String(uploadedParts.get(3)));
+  }
+
+  @Test
+  @DisplayName("아무것도 쓰지 않고 닫으면 빈 파트 하나로 업로드를 완료")
+  void emptyStreamTest() throws IOException {
+    // given
+    stubUploadPart();
+    var out = openStream(4);
+
+    // when
+    out.close();
+
+    // then
+    Mockito.verify(s3Client)
+        .completeMultipartUpload(Mockito.any(CompleteMultipartUploadRequest.class));
+    Assertions.assertEquals(0, uploadedParts.get(1).length);
+  }
+
+  @Test
+  @DisplayName("파트 업로드가 실패하면 close 에서 예외를 던지고 업로드를 abort")
+  void abortOnFailedPartTest() throws IOException {
+    // given
+    Mockito.when(
+            s3Client.uploadPart(
+                Mockito.any(UploadPartRequest.class), Mockito.any(RequestBody.class)))
+        .thenThrow(SdkClientException.create("connection reset"));
+    var out = openStream(4);
+    out.write("01".getBytes());
+
+    // when & then
+    Assertions.assertThrows(RuntimeException.class, out::close);
+    out.abort();
+
+    Mockito.verify(s3Client).abortMultipartUpload(Mockito.any(AbortMultipartUploadRequest.class));
+    Mockito.verify(s3Client, Mockito.never())
+        .completeMultipartUpload(Mockito.any(CompleteMultipartUploadRequest.class));
+  }
+
+  private S3MultipartOutputStream openStream(long partSize) {
+    var upload = S3MultipartUpload.start(s3Client, "bucket", "key", 1);
+    return new S3MultipartOutputStream(
+        upload, new S3MultipartSettings(partSize, 2, 1), Runnable::run);
+  }
+
+  private void stubUploadPart() {
+    Mockito.when(
+            s3Client.uploadPart(
+                Mockito.any(UploadPartRequest.class), Mockito.any(RequestBody.class)))
+        .thenAnswer(
+            invocation -> {
+              UploadPartRequest request = invocation.getArgument(0);
+              RequestBody body = invocation.getArgument(1);
+              var bytes = new ByteArrayOutputStream();
+              try (InputStream in = body.contentStreamProvider().newStream()) {
+                in.transferTo(bytes);
+              }
+              uploadedParts.put(request.partNumber(), bytes.toByteArray());
+              return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+            });
+  }
+}
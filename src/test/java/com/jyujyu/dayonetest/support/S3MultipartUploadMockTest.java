@@ -0,0 +1,91 @@
+package com.jyujyu.dayonetest.support;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+class S3MultipartUploadMockTest {
+
+  private S3Client s3Client;
+
+  @BeforeEach
+  void beforeEach() {
+    s3Client = Mockito.mock(S3Client.class);
+    Mockito.when(s3Client.createMultipartUpload(Mockito.any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+  }
+
+  @Test
+  @DisplayName("파트 업로드가 실패하면 해당 파트만 재시도하고, 완료 시 파트 번호 순으로 전송")
+  void retryPartAndCompleteInOrderTest() throws IOException {
+    // given
+    Path file = Files.createTempFile("multipart-", ".bin");
+    Files.write(file, "0123456789".getBytes());
+
+    Mockito.when(
+            s3Client.uploadPart(
+                Mockito.any(UploadPartRequest.class), Mockito.any(RequestBody.class)))
+        .thenThrow(SdkClientException.create("connection reset"))
+        .thenReturn(UploadPartResponse.builder().eTag("etag-2").build())
+        .thenReturn(UploadPartResponse.builder().eTag("etag-1").build());
+
+    var upload = S3MultipartUpload.start(s3Client, "bucket", "key", 3);
+
+    // when
+    upload.uploadFilePart(2, file, 5, 5);
+    upload.uploadFilePart(1, file, 0, 5);
+    upload.complete();
+
+    // then
+    var completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    Mockito.verify(s3Client, Mockito.times(3))
+        .uploadPart(Mockito.any(UploadPartRequest.class), Mockito.any(RequestBody.class));
+    Mockito.verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+
+    List<CompletedPart> parts = completeCaptor.getValue().multipartUpload().parts();
+    Assertions.assertEquals("upload-id", completeCaptor.getValue().uploadId());
+    Assertions.assertEquals(List.of(1, 2), parts.stream().map(CompletedPart::partNumber).toList());
+    Assertions.assertEquals(
+        List.of("etag-1", "etag-2"), parts.stream().map(CompletedPart::eTag).toList());
+  }
+
+  @Test
+  @DisplayName("재시도 횟수를 넘기면 예외를 던지고, abort 로 업로드를 정리")
+  void exhaustRetriesAndAbortTest() throws IOException {
+    // given
+    Path file = Files.createTempFile("multipart-", ".bin");
+    Files.write(file, "0123456789".getBytes());
+
+    Mockito.when(
+            s3Client.uploadPart(
+                Mockito.any(UploadPartRequest.class), Mockito.any(RequestBody.class)))
+        .thenThrow(SdkClientException.create("connection reset"));
+
+    var upload = S3MultipartUpload.start(s3Client, "bucket", "key", 2);
+
+    // when & then
+    Assertions.assertThrows(SdkClientException.class, () -> upload.uploadFilePart(1, file, 0, 10));
+    upload.abort();
+
+    Mockito.verify(s3Client, Mockito.times(2))
+        .uploadPart(Mockito.any(UploadPartRequest.class), Mockito.any(RequestBody.class));
+    Mockito.verify(s3Client).abortMultipartUpload(Mockito.any(AbortMultipartUploadRequest.class));
+  }
+}
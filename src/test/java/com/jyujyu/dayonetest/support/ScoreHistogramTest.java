@@ -0,0 +1,45 @@
+package com.jyujyu.dayonetest.support;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ScoreHistogramTest {
+
+  @Test
+  @DisplayName("여러 노드의 히스토그램을 합쳐도 한 번에 센 결과와 같다")
+  void mergeTest() {
+    // given
+    var all = new ScoreHistogram(100);
+    var node1 = new ScoreHistogram(100);
+    var node2 = new ScoreHistogram(100);
+    for (int score = 0; score <= 100; score++) {
+      all.add(score);
+      (score % 2 == 0 ? node1 : node2).add(score);
+    }
+
+    // when
+    node1.merge(node2);
+
+    // then
+    Assertions.assertEquals(all.toList(), node1.toList());
+    Assertions.assertEquals(101, node1.getTotal());
+    Assertions.assertEquals(50, node1.quantile(0.5));
+    Assertions.assertEquals(90, node1.quantile(0.9));
+  }
+
+  @Test
+  @DisplayName("범위를 벗어난 점수는 양 끝 칸에 세고, 빈 히스토그램의 분위수는 예외")
+  void boundsTest() {
+    var histogram = new ScoreHistogram(100);
+    Assertions.assertThrows(IllegalStateException.class, () -> histogram.quantile(0.5));
+
+    histogram.add(-5);
+    histogram.add(120);
+
+    Assertions.assertEquals(1, histogram.getCount(0));
+    Assertions.assertEquals(1, histogram.getCount(100));
+    Assertions.assertEquals(0, histogram.quantile(0.5));
+    Assertions.assertEquals(100, histogram.quantile(1.0));
+  }
+}